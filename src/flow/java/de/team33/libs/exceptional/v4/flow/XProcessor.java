@@ -0,0 +1,308 @@
+package de.team33.libs.exceptional.v4.flow;
+
+import de.team33.libs.exceptional.v4.functional.XFunction;
+import de.team33.libs.exceptional.v4.functional.XPredicate;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A {@link Flow.Processor} that applies a function or predicate that may throw a checked exception to each item
+ * that passes through.
+ * <p>
+ * An instance respects the demand of its subscriber: it never requests more items from its upstream publisher than
+ * its subscriber has requested, and it requests them in batches rather than one by one.
+ * <p>
+ * If the function or predicate fails, the upstream subscription will be cancelled and the subscriber will receive the
+ * original (checked) exception via {@link Flow.Subscriber#onError(Throwable)}. Optionally, recoverable failures can be
+ * skipped instead, in which case the affected items are dropped and {@linkplain #skipped() counted}.
+ * <p>
+ * All signals to the subscriber are issued serially, even if the subscriber requests or cancels concurrently to the
+ * signals of the upstream publisher.
+ * <p>
+ * An instance can be subscribed to a single publisher and can serve a single subscriber.
+ *
+ * @param <T> The type of items received from upstream.
+ * @param <R> The type of items passed downstream.
+ */
+public final class XProcessor<T, R> implements Flow.Processor<T, R> {
+
+    /**
+     * The default number of items requested from upstream at once.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 128;
+
+    private static final Object SKIP = new Object();
+    private static final Predicate<Exception> NOT_SKIPPABLE = ignored -> false;
+
+    private final XFunction<? super T, ?, ?> step;
+    private final int batchSize;
+    private final int lowWatermark;
+    private final Predicate<? super Exception> skippable;
+
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+    private final AtomicLong demand = new AtomicLong(0);
+    private final AtomicLong inFlight = new AtomicLong(0);
+    private final AtomicLong skipped = new AtomicLong(0);
+    private final AtomicInteger wip = new AtomicInteger(0);
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private final Queue<Object> queue = new ConcurrentLinkedQueue<>();
+    private final Downstream downstream = new Downstream();
+
+    private volatile boolean done = false;
+    private volatile boolean terminated = false;
+    private volatile boolean cancelling = false;
+    private volatile boolean stopped = false;
+    private boolean cancelled = false;
+    private boolean signalled = false;
+
+    private XProcessor(final XFunction<? super T, ?, ?> step, final int batchSize,
+                       final Predicate<? super Exception> skippable) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("<batchSize> must be positive but was " + batchSize);
+        }
+        this.step = step;
+        this.batchSize = batchSize;
+        this.lowWatermark = batchSize / 2;
+        this.skippable = skippable;
+    }
+
+    /**
+     * Returns a new instance that applies a given {@link XFunction} to each item and fails on the first exception.
+     */
+    public static <T, R> XProcessor<T, R> mapping(final XFunction<? super T, ? extends R, ?> function) {
+        return mapping(function, DEFAULT_BATCH_SIZE, NOT_SKIPPABLE);
+    }
+
+    /**
+     * Returns a new instance that applies a given {@link XFunction} to each item.
+     *
+     * @param function  The function to be applied to each item. Must not return {@code null}.
+     * @param batchSize The maximum number of items to be requested from upstream at once.
+     * @param skippable A {@link Predicate} that determines whether an exception is recoverable, in which case the
+     *                  affected item is skipped and counted.
+     */
+    public static <T, R> XProcessor<T, R> mapping(final XFunction<? super T, ? extends R, ?> function,
+                                                  final int batchSize,
+                                                  final Predicate<? super Exception> skippable) {
+        return new XProcessor<>(function, batchSize, skippable);
+    }
+
+    /**
+     * Returns a new instance that passes only those items that match a given {@link XPredicate} and fails on the
+     * first exception.
+     */
+    public static <T> XProcessor<T, T> filtering(final XPredicate<? super T, ?> predicate) {
+        return filtering(predicate, DEFAULT_BATCH_SIZE, NOT_SKIPPABLE);
+    }
+
+    /**
+     * Returns a new instance that passes only those items that match a given {@link XPredicate}.
+     *
+     * @param predicate The predicate to be applied to each item.
+     * @param batchSize The maximum number of items to be requested from upstream at once.
+     * @param skippable A {@link Predicate} that determines whether an exception is recoverable, in which case the
+     *                  affected item is skipped and counted.
+     */
+    public static <T> XProcessor<T, T> filtering(final XPredicate<? super T, ?> predicate,
+                                                 final int batchSize,
+                                                 final Predicate<? super Exception> skippable) {
+        return new XProcessor<>(item -> predicate.test(item) ? item : SKIP, batchSize, skippable);
+    }
+
+    /**
+     * Returns the number of items that have been skipped so far due to recoverable failures.
+     */
+    public final long skipped() {
+        return skipped.get();
+    }
+
+    @Override
+    public final void subscribe(final Flow.Subscriber<? super R> subscriber) {
+        downstream.subscribe(requireNonNull(subscriber, "<subscriber> must not be null"));
+    }
+
+    @Override
+    public final void onSubscribe(final Flow.Subscription subscription) {
+        requireNonNull(subscription, "<subscription> must not be null");
+        if (upstream.compareAndSet(null, subscription)) {
+            drain();
+        } else {
+            subscription.cancel();
+        }
+    }
+
+    @Override
+    public final void onNext(final T item) {
+        requireNonNull(item, "<item> must not be null");
+        if (done) {
+            return;
+        }
+        final Object result;
+        try {
+            result = step.apply(item);
+        } catch (final Exception caught) {
+            if (skippable.test(caught)) {
+                skipped.incrementAndGet();
+                inFlight.decrementAndGet();
+                drain();
+            } else {
+                fail(caught);
+            }
+            return;
+        }
+        if (null == result) {
+            fail(new NullPointerException("the function of an " + getClass().getSimpleName() +
+                                                  " must not return <null>"));
+            return;
+        }
+        if (SKIP != result) {
+            // still in flight until it is actually passed downstream ...
+            queue.offer(result);
+        } else {
+            inFlight.decrementAndGet();
+        }
+        drain();
+    }
+
+    @Override
+    public final void onError(final Throwable throwable) {
+        requireNonNull(throwable, "<throwable> must not be null");
+        if (!done) {
+            done = true;
+            failure.compareAndSet(null, throwable);
+            terminated = true;
+            drain();
+        }
+    }
+
+    @Override
+    public final void onComplete() {
+        if (!done) {
+            done = true;
+            terminated = true;
+            drain();
+        }
+    }
+
+    private void fail(final Throwable cause) {
+        failure.compareAndSet(null, cause);
+        done = true;
+        cancelling = true;
+        terminated = true;
+        drain();
+    }
+
+    /**
+     * Issues all signals to the subscriber and all requests to the upstream publisher, serialized by {@link #wip}.
+     */
+    private void drain() {
+        if (0 != wip.getAndIncrement()) {
+            return;
+        }
+        int missed = 1;
+        do {
+            final Flow.Subscription subscription = upstream.get();
+            if ((null != subscription) && cancelling && !cancelled) {
+                cancelled = true;
+                subscription.cancel();
+            }
+            if (stopped) {
+                queue.clear();
+            } else if (downstream.ready) {
+                for (Object item = queue.poll(); null != item; item = stopped ? null : queue.poll()) {
+                    demand.decrementAndGet();
+                    inFlight.decrementAndGet();
+                    downstream.next(item);
+                }
+                if (terminated && !signalled && !stopped && queue.isEmpty()) {
+                    signalled = true;
+                    downstream.signal(failure.get());
+                }
+            }
+            if ((null != subscription) && !done) {
+                final long flying = inFlight.get();
+                final long wanted = Math.min(demand.get(), batchSize);
+                if ((flying <= lowWatermark) && (wanted > flying)) {
+                    inFlight.addAndGet(wanted - flying);
+                    subscription.request(wanted - flying);
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (0 != missed);
+    }
+
+    private static long addCapped(final long current, final long increment) {
+        final long result = current + increment;
+        return (result < 0) ? Long.MAX_VALUE : result;
+    }
+
+    private final class Downstream implements Flow.Subscription {
+
+        private final AtomicReference<Flow.Subscriber<? super R>> subscriber = new AtomicReference<>();
+        private volatile boolean ready = false;
+
+        private void subscribe(final Flow.Subscriber<? super R> candidate) {
+            if (subscriber.compareAndSet(null, candidate)) {
+                candidate.onSubscribe(this);
+                ready = true;
+                drain();
+            } else {
+                candidate.onSubscribe(Rejected.INSTANCE);
+                candidate.onError(new IllegalStateException(
+                        "an " + XProcessor.class.getSimpleName() + " can only serve a single subscriber"));
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void next(final Object item) {
+            subscriber.get().onNext((R) item);
+        }
+
+        private void signal(final Throwable cause) {
+            if (null == cause) {
+                subscriber.get().onComplete();
+            } else {
+                subscriber.get().onError(cause);
+            }
+        }
+
+        @Override
+        public final void request(final long n) {
+            if (n <= 0) {
+                fail(new IllegalArgumentException("requested items must be positive but was " + n));
+            } else {
+                demand.getAndAccumulate(n, XProcessor::addCapped);
+                drain();
+            }
+        }
+
+        @Override
+        public final void cancel() {
+            stopped = true;
+            done = true;
+            cancelling = true;
+            drain();
+        }
+    }
+
+    private enum Rejected implements Flow.Subscription {
+
+        INSTANCE;
+
+        @Override
+        public void request(final long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
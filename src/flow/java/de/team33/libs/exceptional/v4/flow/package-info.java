@@ -0,0 +1,7 @@
+/**
+ * This package contains adapters that apply the functional constructs of
+ * {@link de.team33.libs.exceptional.v4.functional} to reactive streams based on {@link java.util.concurrent.Flow}.
+ * <p>
+ * The package requires Java 9 or newer. It is shipped as a separate artifact with the classifier {@code flow}.
+ */
+package de.team33.libs.exceptional.v4.flow;
@@ -0,0 +1,53 @@
+package de.team33.test.exceptional.v4.stress;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.functional.Conversion;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Checks that a function converted by the shared static converter of {@link Conversion} can be used concurrently,
+ * succeeding and failing at the same time.
+ */
+@JCStressTest
+@Outcome(id = "1, 1", expect = ACCEPTABLE, desc = "Both calls behave as expected")
+@Outcome(expect = FORBIDDEN, desc = "Any call misbehaves")
+@State
+public class ConversionSharingStress {
+
+    private static final Function<Integer, Integer> FUNCTION = Conversion.function(ConversionSharingStress::check);
+
+    private static Integer check(final Integer value) throws IOException {
+        if (0 > value) {
+            throw new IOException("negative: " + value);
+        }
+        return value;
+    }
+
+    private static int apply(final Integer value) {
+        try {
+            return (value.equals(FUNCTION.apply(value))) ? 1 : -1;
+        } catch (final WrappedException caught) {
+            return (caught.getCause() instanceof IOException) && (0 > value) ? 1 : -2;
+        }
+    }
+
+    @Actor
+    public void succeeding(final II_Result result) {
+        result.r1 = apply(278);
+    }
+
+    @Actor
+    public void failing(final II_Result result) {
+        result.r2 = apply(-1);
+    }
+}
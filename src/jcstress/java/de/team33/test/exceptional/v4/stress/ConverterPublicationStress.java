@@ -0,0 +1,57 @@
+package de.team33.test.exceptional.v4.stress;
+
+import de.team33.libs.exceptional.v4.Wrapping;
+import de.team33.libs.exceptional.v4.functional.Converter;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.I_Result;
+
+import java.io.IOException;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Checks that a {@link Converter} published via a data race is seen fully initialized.
+ */
+@JCStressTest
+@Outcome(id = "0", expect = ACCEPTABLE, desc = "Converter not yet visible")
+@Outcome(id = "1", expect = ACCEPTABLE, desc = "Converter visible and fully initialized")
+@Outcome(expect = FORBIDDEN, desc = "Converter visible but not fully initialized")
+@State
+public class ConverterPublicationStress {
+
+    private static final IOException CAUSE = new IOException("stress");
+
+    private Converter converter;
+
+    private static void fail() throws IOException {
+        throw CAUSE;
+    }
+
+    @Actor
+    public void publish() {
+        converter = Converter.using(Wrapping.normal(IllegalStateException::new))
+                             .withStackDepth(2);
+    }
+
+    @Actor
+    public void use(final I_Result result) {
+        final Converter local = converter;
+        if (null == local) {
+            result.r1 = 0;
+        } else {
+            try {
+                local.runnable(ConverterPublicationStress::fail).run();
+                result.r1 = -1;
+            } catch (final IllegalStateException caught) {
+                final boolean expected = (CAUSE == caught.getCause()) && (2 == caught.getStackTrace().length);
+                result.r1 = expected ? 1 : -2;
+            } catch (final RuntimeException caught) {
+                result.r1 = -3;
+            }
+        }
+    }
+}
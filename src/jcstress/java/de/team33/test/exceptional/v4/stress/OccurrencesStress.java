@@ -0,0 +1,43 @@
+package de.team33.test.exceptional.v4.stress;
+
+import de.team33.libs.exceptional.v4.Occurrences;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.III_Result;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Checks that concurrent occurrences of the same failure are all counted and reported exactly once per interval.
+ */
+@JCStressTest
+@Outcome(id = {"1, 0, 2", "0, 1, 2"}, expect = ACCEPTABLE, desc = "Reported once, counted twice")
+@Outcome(expect = FORBIDDEN, desc = "Lost count or duplicate report")
+@State
+public class OccurrencesStress {
+
+    private final Occurrences occurrences = Occurrences.of(16, 1, TimeUnit.MINUTES, () -> 0L);
+
+    @Actor
+    public void first(final III_Result result) {
+        result.r1 = occurrences.record(278L) ? 1 : 0;
+    }
+
+    @Actor
+    public void second(final III_Result result) {
+        result.r2 = occurrences.record(278L) ? 1 : 0;
+    }
+
+    @Arbiter
+    public void arbiter(final III_Result result) {
+        result.r3 = occurrences.get(278L)
+                               .map(entry -> (int) entry.count())
+                               .orElse(-1);
+    }
+}
@@ -0,0 +1,38 @@
+package de.team33.test.exceptional.v4.stress;
+
+import de.team33.libs.exceptional.v4.Recovery;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+import java.io.IOException;
+import java.sql.SQLException;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Checks that the dispatch table of a shared {@link Recovery} is consistent under concurrent first use.
+ */
+@JCStressTest
+@Outcome(id = "1, 2", expect = ACCEPTABLE, desc = "Both exceptions are dispatched to their cases")
+@Outcome(expect = FORBIDDEN, desc = "Any exception is dispatched to a wrong case")
+@State
+public class RecoveryStress {
+
+    private final Recovery<Integer> recovery = Recovery.onCause(IOException.class, e -> 1)
+                                                       .onCause(SQLException.class, e -> 2)
+                                                       .otherwise(e -> 0);
+
+    @Actor
+    public void io(final II_Result result) {
+        result.r1 = recovery.apply(new IOException());
+    }
+
+    @Actor
+    public void sql(final II_Result result) {
+        result.r2 = recovery.apply(new SQLException());
+    }
+}
@@ -0,0 +1,44 @@
+package de.team33.test.exceptional.v4.stress;
+
+import de.team33.libs.exceptional.v4.Unwrapping;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.ZZ_Result;
+
+import java.io.IOException;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Checks that the cached type lookup of a shared {@link Unwrapping} is consistent under concurrent first use.
+ */
+@JCStressTest
+@Outcome(id = "true, true", expect = ACCEPTABLE, desc = "Both lookups see the registered type")
+@Outcome(expect = FORBIDDEN, desc = "Any lookup misses the registered type")
+@State
+public class UnwrappingStress {
+
+    private static final IOException CAUSE = new IOException("stress");
+
+    private final Unwrapping unwrapping = Unwrapping.standard().with(Custom.class);
+
+    @Actor
+    public void check(final ZZ_Result result) {
+        result.r1 = unwrapping.isTransparent(Custom.class);
+    }
+
+    @Actor
+    public void unwrap(final ZZ_Result result) {
+        result.r2 = (CAUSE == unwrapping.unwrap(new Custom(CAUSE)));
+    }
+
+    public static class Custom extends RuntimeException {
+
+        public Custom(final Throwable cause) {
+            super(cause);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package de.team33.test.exceptional.v4.stress;
+
+import de.team33.libs.exceptional.v4.flow.XProcessor;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Arbiter;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.J_Result;
+
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.openjdk.jcstress.annotations.Expect.ACCEPTABLE;
+import static org.openjdk.jcstress.annotations.Expect.FORBIDDEN;
+
+/**
+ * Checks that concurrent requests of a subscriber are forwarded upstream by an {@link XProcessor} exactly, without
+ * losing or exceeding any demand.
+ */
+@JCStressTest
+@Outcome(id = "2", expect = ACCEPTABLE, desc = "Exactly the demand is requested upstream")
+@Outcome(expect = FORBIDDEN, desc = "Lost or excess demand")
+@State
+public class XProcessorDemandStress implements Flow.Subscription, Flow.Subscriber<Integer> {
+
+    private final AtomicLong requested = new AtomicLong(0);
+    private Flow.Subscription downstream;
+
+    public XProcessorDemandStress() {
+        final XProcessor<Integer, Integer> processor = XProcessor.mapping(value -> value);
+        processor.onSubscribe(this);
+        processor.subscribe(this);
+    }
+
+    @Actor
+    public void first() {
+        downstream.request(1);
+    }
+
+    @Actor
+    public void second() {
+        downstream.request(1);
+    }
+
+    @Arbiter
+    public void arbiter(final J_Result result) {
+        result.r1 = requested.get();
+    }
+
+    @Override
+    public void request(final long n) {
+        requested.addAndGet(n);
+    }
+
+    @Override
+    public void cancel() {
+    }
+
+    @Override
+    public void onSubscribe(final Flow.Subscription subscription) {
+        downstream = subscription;
+    }
+
+    @Override
+    public void onNext(final Integer item) {
+    }
+
+    @Override
+    public void onError(final Throwable throwable) {
+    }
+
+    @Override
+    public void onComplete() {
+    }
+}
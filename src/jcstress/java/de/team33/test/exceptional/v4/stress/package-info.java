@@ -0,0 +1,6 @@
+/**
+ * This package contains jcstress tests that check the thread-safety and safe publication guarantees of this library.
+ * <p>
+ * Run them using: {@code mvn test -P jcstress [-Djcstress.mode=default] [-Djcstress.include=<regex>]}
+ */
+package de.team33.test.exceptional.v4.stress;
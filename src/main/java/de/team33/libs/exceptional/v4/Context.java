@@ -0,0 +1,162 @@
+package de.team33.libs.exceptional.v4;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A small, immutable set of key/value pairs that describe the context of a failure, e.g. a request id or the key of
+ * an item being processed, to be attached to a {@link Contextual} exception.
+ * <p>
+ * Adding a pair is cheap: it neither copies existing pairs nor renders any value. A value may also be given as a
+ * {@link Supplier}, which is only evaluated when the context is actually read or rendered, e.g. when the message of
+ * an exception is requested.
+ * <p>
+ * If the same key is added more than once, the latest value applies. When serialized, all values are rendered as
+ * strings.
+ *
+ * @see Contextual
+ * @see Handling#context()
+ */
+public final class Context implements Serializable {
+
+    private static final Context EMPTY = new Context(null, null, null);
+
+    private final String key;
+    private final transient Object value;
+    private final Context previous;
+
+    private Context(final String key, final Object value, final Context previous) {
+        this.key = key;
+        this.value = value;
+        this.previous = previous;
+    }
+
+    /**
+     * Returns an empty context.
+     */
+    public static Context empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a context that consists of a single key/value pair.
+     *
+     * @param key   The key, must not be {@code null}.
+     * @param value The value, may be a {@link Supplier} to be evaluated lazily or {@code null}.
+     */
+    public static Context of(final String key, final Object value) {
+        return EMPTY.with(key, value);
+    }
+
+    private static Object evaluated(final Object value) {
+        return (value instanceof Supplier) ? ((Supplier<?>) value).get() : value;
+    }
+
+    /**
+     * Returns a new context that consists of the pairs of this context and a given key/value pair.
+     *
+     * @param key   The key, must not be {@code null}.
+     * @param value The value, may be a {@link Supplier} to be evaluated lazily or {@code null}.
+     */
+    public final Context with(final String key, final Object value) {
+        return new Context(requireNonNull(key, "<key> must not be null"), value, this);
+    }
+
+    /**
+     * Returns a new context that consists of the pairs of this context and the pairs of a given context.
+     */
+    public final Context with(final Context other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+        Context result = this;
+        for (final Context entry : other.entries()) {
+            result = new Context(entry.key, entry.value, result);
+        }
+        return result;
+    }
+
+    /**
+     * Determines whether this context has no pairs at all.
+     */
+    public final boolean isEmpty() {
+        return null == previous;
+    }
+
+    /**
+     * Returns the (evaluated) value of the latest pair with a given key, if present.
+     * Note that an {@link Optional} can't represent a {@code null} value.
+     */
+    public final Optional<Object> get(final String key) {
+        for (Context entry = this; !entry.isEmpty(); entry = entry.previous) {
+            if (entry.key.equals(key)) {
+                return Optional.ofNullable(evaluated(entry.value));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns an unmodifiable {@link Map} of all keys and their (evaluated) values in the order of their first
+     * addition.
+     */
+    public final Map<String, Object> toMap() {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        for (final Context entry : entries()) {
+            result.put(entry.key, evaluated(entry.value));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Deque<Context> entries() {
+        final Deque<Context> result = new ArrayDeque<>();
+        for (Context entry = this; !entry.isEmpty(); entry = entry.previous) {
+            result.addFirst(entry);
+        }
+        return result;
+    }
+
+    /**
+     * Renders this context in the form {@code {key1=value1, key2=value2, ...}}.
+     */
+    @Override
+    public final String toString() {
+        return toMap().toString();
+    }
+
+    private Object writeReplace() throws ObjectStreamException {
+        return new Serialized(this);
+    }
+
+    private static final class Serialized implements Serializable {
+
+        private final String[] keys;
+        private final String[] values;
+
+        private Serialized(final Context context) {
+            final Map<String, Object> map = context.toMap();
+            this.keys = map.keySet().toArray(new String[0]);
+            this.values = map.values().stream().map(String::valueOf).toArray(String[]::new);
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            Context result = EMPTY;
+            for (int index = 0; index < keys.length; ++index) {
+                result = result.with(keys[index], values[index]);
+            }
+            return result;
+        }
+    }
+}
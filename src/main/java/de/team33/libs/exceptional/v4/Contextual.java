@@ -0,0 +1,31 @@
+package de.team33.libs.exceptional.v4;
+
+/**
+ * Implemented by exceptions that can carry a {@link Context}, which is rendered into their message only when it is
+ * requested.
+ *
+ * @see WrappedException
+ * @see ExpectationException
+ * @see Handling#context()
+ */
+public interface Contextual {
+
+    /**
+     * Adds a key/value pair to the {@link Context} of this exception and returns this exception.
+     *
+     * @param key   The key, must not be {@code null}.
+     * @param value The value, may be a {@link java.util.function.Supplier Supplier} to be evaluated lazily or
+     *              {@code null}.
+     */
+    Contextual with(String key, Object value);
+
+    /**
+     * Adds all pairs of a given {@link Context} to the {@link Context} of this exception and returns this exception.
+     */
+    Contextual with(Context context);
+
+    /**
+     * Returns the {@link Context} of this exception.
+     */
+    Context context();
+}
@@ -0,0 +1,50 @@
+package de.team33.libs.exceptional.v4;
+
+/**
+ * An unchecked exception that stands for an exception of an arbitrary type that has been
+ * {@linkplain ExceptionCodec#decode(java.nio.ByteBuffer) decoded} from its transport form.
+ * <p>
+ * It retains the name of the original type, the message, the stack trace, the cause and the suppressed exceptions of
+ * the original exception. Its {@link #toString() string representation} corresponds to the one of the original
+ * exception, so it looks the same in logs.
+ *
+ * @see ExceptionCodec
+ */
+public class DecodedException extends RuntimeException {
+
+    private final String typeName;
+
+    /**
+     * Initializes a new instance with the given type name, message and cause.
+     * The stack trace of the new instance is initially empty.
+     */
+    public DecodedException(final String typeName, final String message, final Throwable cause) {
+        super(message, cause);
+        this.typeName = typeName;
+    }
+
+    /**
+     * Returns the name of the type of the original exception.
+     */
+    public final String typeName() {
+        return typeName;
+    }
+
+    /**
+     * Does not fill in the stack trace of the decoding code, because the stack trace of the original exception will
+     * be {@linkplain #setStackTrace(StackTraceElement[]) set} instead.
+     */
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+
+    /**
+     * Returns a short description in the form the original exception would provide by default.
+     */
+    @Override
+    public String toString() {
+        final String message = getLocalizedMessage();
+        return (null == message) ? typeName : (typeName + ": " + message);
+    }
+}
@@ -0,0 +1,35 @@
+package de.team33.libs.exceptional.v4;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An unchecked exception that indicates that processing a certain element of a batch failed.
+ * <p>
+ * It refers to the index of the failed element and transports the exception that caused the failure. Its sole purpose
+ * is to add the index, so it is {@linkplain Unwrapping#standard() transparent by default}.
+ *
+ * @see de.team33.libs.exceptional.v4.functional.BatchConsumer
+ */
+public class ElementException extends RuntimeException {
+
+    private static final String MISSING_CAUSE = "An " +
+            ElementException.class.getSimpleName() +
+            " is expected to have a real cause but was <null>";
+
+    private final int index;
+
+    /**
+     * Initializes a new instance with the given index of the failed element and the given cause.
+     */
+    public ElementException(final int index, final Throwable cause) {
+        super("element #" + index + ": " + requireNonNull(cause, MISSING_CAUSE).getMessage(), cause);
+        this.index = index;
+    }
+
+    /**
+     * Returns the index of the failed element.
+     */
+    public final int index() {
+        return index;
+    }
+}
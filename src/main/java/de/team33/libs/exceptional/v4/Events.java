@@ -0,0 +1,41 @@
+package de.team33.libs.exceptional.v4;
+
+/**
+ * Hooks to record events of this package, e.g. for the JDK Flight Recorder.
+ * <p>
+ * This is the Java 8 implementation, which does not record anything. Java 11 and newer use a variant from the
+ * versioned section of the multi-release JAR that records JFR events.
+ */
+final class Events {
+
+    private Events() {
+    }
+
+    /**
+     * Begins recording a {@link Handling} and returns a token to be passed to {@link #handled(Object, String,
+     * Throwable, Throwable)} or {@code null} if nothing is recorded.
+     */
+    static Object beginHandling() {
+        return null;
+    }
+
+    /**
+     * Completes recording a {@link Handling} when a certain branch of it fires.
+     */
+    static void handled(final Object token, final String branch, final Throwable subject, final Throwable cause) {
+    }
+
+    /**
+     * Begins recording the creation of an {@link ExpectationException} and returns a token to be passed to
+     * {@link #expected(Object, String, Throwable)} or {@code null} if nothing is recorded.
+     */
+    static Object beginExpectation() {
+        return null;
+    }
+
+    /**
+     * Completes recording the creation of an {@link ExpectationException} with a given message and cause.
+     */
+    static void expected(final Object token, final String message, final Throwable cause) {
+    }
+}
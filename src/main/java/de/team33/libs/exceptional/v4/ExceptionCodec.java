@@ -0,0 +1,401 @@
+package de.team33.libs.exceptional.v4;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A utility to encode an exception, including its chain of causes and its suppressed exceptions, into a compact
+ * binary form and to decode it again, e.g. to ship failures between nodes.
+ * <p>
+ * Compared to Java serialization, the encoded form does not contain any class descriptors or object headers.
+ * Type names, messages and the parts of stack frames are stored once in a string table, and each distinct stack frame
+ * is stored once in a frame table, no matter how often it occurs along the chain. All numbers are stored as variable
+ * length integers.
+ * <p>
+ * The encoded form is written to and read from a {@link ByteBuffer} at its current position, so it can be embedded
+ * into a larger message and used with direct buffers. Decoding rebuilds a {@link WrappedException} or an
+ * {@link ExpectationException}, including its {@link Context}, as such. Any other exception is rebuilt as a
+ * {@link DecodedException} that retains the name of the original type.
+ */
+public final class ExceptionCodec {
+
+    private static final short MAGIC = (short) 0xEC04;
+    private static final byte VERSION = 1;
+    private static final String WRAPPED = WrappedException.class.getName();
+    private static final String EXPECTATION = ExpectationException.class.getName();
+
+    private ExceptionCodec() {
+    }
+
+    /**
+     * Encodes a given exception into a new {@link ByteBuffer} of the exact size required, ready to be read.
+     */
+    public static ByteBuffer encode(final Throwable exception) {
+        final Encoder encoder = new Encoder(exception);
+        final ByteBuffer result = ByteBuffer.allocate(encoder.size());
+        encoder.writeTo(result);
+        result.flip();
+        return result;
+    }
+
+    /**
+     * Encodes a given exception into a given {@link ByteBuffer}, starting at its current position.
+     *
+     * @throws BufferOverflowException if the remaining space of the given buffer is insufficient. In that case,
+     *                                 nothing is written.
+     */
+    public static void encode(final Throwable exception, final ByteBuffer target) {
+        final Encoder encoder = new Encoder(exception);
+        if (target.remaining() < encoder.size()) {
+            throw new BufferOverflowException();
+        }
+        encoder.writeTo(target);
+    }
+
+    /**
+     * Returns the number of bytes required to encode a given exception.
+     */
+    public static int encodedSize(final Throwable exception) {
+        return new Encoder(exception).size();
+    }
+
+    /**
+     * Decodes an exception from a given {@link ByteBuffer}, starting at its current position. On return, the
+     * position of the buffer is just after the encoded exception.
+     *
+     * @throws IllegalArgumentException if the given buffer does not contain a valid encoded exception.
+     */
+    public static Throwable decode(final ByteBuffer source) {
+        try {
+            return new Decoder(source).decode();
+        } catch (final BufferUnderflowException | IndexOutOfBoundsException | NullPointerException caught) {
+            throw new IllegalArgumentException("<source> does not contain a valid encoded exception", caught);
+        }
+    }
+
+    private interface Sink {
+
+        void put(byte value);
+
+        void put(byte[] bytes);
+    }
+
+    private static final class Counter implements Sink {
+
+        private int count = 0;
+
+        @Override
+        public final void put(final byte value) {
+            count += 1;
+        }
+
+        @Override
+        public final void put(final byte[] bytes) {
+            count += bytes.length;
+        }
+    }
+
+    private static final class BufferSink implements Sink {
+
+        private final ByteBuffer buffer;
+
+        private BufferSink(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public final void put(final byte value) {
+            buffer.put(value);
+        }
+
+        @Override
+        public final void put(final byte[] bytes) {
+            buffer.put(bytes);
+        }
+    }
+
+    private static final class Node {
+
+        private int type;
+        private int message;
+        private int[] context;
+        private int[] frames;
+        private int cause;
+        private int[] suppressed;
+    }
+
+    private static final class Encoder {
+
+        private final Map<String, Integer> stringIndex = new HashMap<>();
+        private final List<byte[]> strings = new ArrayList<>();
+        private final Map<StackTraceElement, Integer> frameIndex = new HashMap<>();
+        private final List<int[]> frames = new ArrayList<>();
+        private final Map<Throwable, Integer> nodeIndex = new IdentityHashMap<>();
+        private final Set<Throwable> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+        private final List<Node> nodes = new ArrayList<>();
+        private final int size;
+
+        private Encoder(final Throwable exception) {
+            collect(exception);
+            final Counter counter = new Counter();
+            write(counter);
+            this.size = counter.count;
+        }
+
+        private int size() {
+            return size;
+        }
+
+        private void writeTo(final ByteBuffer target) {
+            write(new BufferSink(target));
+        }
+
+        // References are 0 for null or (index + 1) otherwise ...
+        private int string(final String value) {
+            if (null == value) {
+                return 0;
+            }
+            return 1 + stringIndex.computeIfAbsent(value, key -> {
+                strings.add(key.getBytes(StandardCharsets.UTF_8));
+                return strings.size() - 1;
+            });
+        }
+
+        private int frame(final StackTraceElement element) {
+            final Integer index = frameIndex.get(element);
+            if (null != index) {
+                return index;
+            }
+            frames.add(new int[]{string(element.getClassName()), string(element.getMethodName()),
+                    string(element.getFileName()), element.getLineNumber()});
+            frameIndex.put(element, frames.size() - 1);
+            return frames.size() - 1;
+        }
+
+        // Collects the nodes in post-order, so that causes and suppressed exceptions precede the exceptions that
+        // refer to them. Back references of cyclic chains are dropped.
+        private int collect(final Throwable exception) {
+            if ((null == exception) || visiting.contains(exception)) {
+                return 0;
+            }
+            final Integer known = nodeIndex.get(exception);
+            if (null != known) {
+                return 1 + known;
+            }
+            visiting.add(exception);
+            final Node node = new Node();
+            node.cause = collect(exception.getCause());
+            final Throwable[] suppressed = exception.getSuppressed();
+            node.suppressed = new int[suppressed.length];
+            for (int index = 0; index < suppressed.length; ++index) {
+                node.suppressed[index] = collect(suppressed[index]);
+            }
+            final String typeName = exception.getClass().getName();
+            node.type = string(typeName);
+            if (WrappedException.class == exception.getClass()) {
+                node.message = string(((WrappedException) exception).plainMessage());
+                node.context = context(((WrappedException) exception).context());
+            } else if (ExpectationException.class == exception.getClass()) {
+                node.message = string(((ExpectationException) exception).plainMessage());
+                node.context = context(((ExpectationException) exception).context());
+            } else if (exception instanceof DecodedException) {
+                node.type = string(((DecodedException) exception).typeName());
+                node.message = string(exception.getMessage());
+                node.context = new int[0];
+            } else {
+                node.message = string(exception.getMessage());
+                node.context = new int[0];
+            }
+            final StackTraceElement[] elements = exception.getStackTrace();
+            node.frames = new int[elements.length];
+            for (int index = 0; index < elements.length; ++index) {
+                node.frames[index] = frame(elements[index]);
+            }
+            visiting.remove(exception);
+            nodes.add(node);
+            nodeIndex.put(exception, nodes.size() - 1);
+            return nodes.size();
+        }
+
+        private int[] context(final Context context) {
+            final Map<String, Object> map = context.toMap();
+            final int[] result = new int[2 * map.size()];
+            int index = 0;
+            for (final Map.Entry<String, Object> entry : map.entrySet()) {
+                result[index++] = string(entry.getKey());
+                result[index++] = string(String.valueOf(entry.getValue()));
+            }
+            return result;
+        }
+
+        private void write(final Sink sink) {
+            sink.put((byte) (MAGIC >>> 8));
+            sink.put((byte) MAGIC);
+            sink.put(VERSION);
+            writeVarInt(sink, strings.size());
+            for (final byte[] bytes : strings) {
+                writeVarInt(sink, bytes.length);
+                sink.put(bytes);
+            }
+            writeVarInt(sink, frames.size());
+            for (final int[] frame : frames) {
+                writeVarInt(sink, frame[0]);
+                writeVarInt(sink, frame[1]);
+                writeVarInt(sink, frame[2]);
+                writeVarInt(sink, (frame[3] << 1) ^ (frame[3] >> 31));
+            }
+            writeVarInt(sink, nodes.size());
+            for (final Node node : nodes) {
+                writeVarInt(sink, node.type);
+                writeVarInt(sink, node.message);
+                writeArray(sink, node.context);
+                writeArray(sink, node.frames);
+                writeVarInt(sink, node.cause);
+                writeArray(sink, node.suppressed);
+            }
+        }
+
+        private static void writeArray(final Sink sink, final int[] values) {
+            writeVarInt(sink, values.length);
+            for (final int value : values) {
+                writeVarInt(sink, value);
+            }
+        }
+
+        private static void writeVarInt(final Sink sink, final int value) {
+            int rest = value;
+            while (0 != (rest & ~0x7F)) {
+                sink.put((byte) ((rest & 0x7F) | 0x80));
+                rest >>>= 7;
+            }
+            sink.put((byte) rest);
+        }
+    }
+
+    private static final class Decoder {
+
+        private final ByteBuffer source;
+        private String[] strings;
+        private StackTraceElement[] frames;
+
+        private Decoder(final ByteBuffer source) {
+            this.source = source;
+        }
+
+        private Throwable decode() {
+            if ((MAGIC != source.getShort()) || (VERSION != source.get())) {
+                throw new IllegalArgumentException("<source> does not start with an encoded exception");
+            }
+            strings = new String[readCount()];
+            for (int index = 0; index < strings.length; ++index) {
+                strings[index] = readString();
+            }
+            frames = new StackTraceElement[readCount()];
+            for (int index = 0; index < frames.length; ++index) {
+                final String className = string(readVarInt());
+                final String methodName = string(readVarInt());
+                final String fileName = string(readVarInt());
+                final int zigZag = readVarInt();
+                frames[index] = new StackTraceElement(className, methodName, fileName, (zigZag >>> 1) ^ -(zigZag & 1));
+            }
+            final Throwable[] nodes = new Throwable[readCount()];
+            if (0 == nodes.length) {
+                return null;
+            }
+            for (int index = 0; index < nodes.length; ++index) {
+                nodes[index] = readNode(nodes, index);
+            }
+            return nodes[nodes.length - 1];
+        }
+
+        private Throwable readNode(final Throwable[] nodes, final int current) {
+            final String type = string(readVarInt());
+            final String message = string(readVarInt());
+            Context context = Context.empty();
+            final int contextLength = readCount();
+            for (int index = 0; index < contextLength; index += 2) {
+                context = context.with(string(readVarInt()), string(readVarInt()));
+            }
+            final StackTraceElement[] stackTrace = new StackTraceElement[readCount()];
+            for (int index = 0; index < stackTrace.length; ++index) {
+                stackTrace[index] = frames[readVarInt()];
+            }
+            final Throwable cause = node(nodes, current, readVarInt());
+            final Throwable result = create(type, message, context, cause);
+            result.setStackTrace(stackTrace);
+            final int suppressed = readCount();
+            for (int index = 0; index < suppressed; ++index) {
+                final Throwable exception = node(nodes, current, readVarInt());
+                if (null != exception) {
+                    result.addSuppressed(exception);
+                }
+            }
+            return result;
+        }
+
+        private static Throwable create(final String type, final String message, final Context context,
+                                        final Throwable cause) {
+            if (WRAPPED.equals(type) && (null != cause)) {
+                return new WrappedException(message, cause).with(context);
+            } else if (EXPECTATION.equals(type)) {
+                return new ExpectationException(message, cause).with(context);
+            } else {
+                return new DecodedException(type, message, cause);
+            }
+        }
+
+        private static Throwable node(final Throwable[] nodes, final int current, final int reference) {
+            if (reference > current) {
+                throw new IllegalArgumentException("invalid reference to exception #" + reference);
+            }
+            return (0 == reference) ? null : nodes[reference - 1];
+        }
+
+        private String string(final int reference) {
+            return (0 == reference) ? null : strings[reference - 1];
+        }
+
+        private String readString() {
+            final int length = readCount();
+            if (source.hasArray()) {
+                final int position = source.position();
+                final String result = new String(source.array(), source.arrayOffset() + position, length,
+                                                 StandardCharsets.UTF_8);
+                source.position(position + length);
+                return result;
+            }
+            final byte[] bytes = new byte[length];
+            source.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        private int readCount() {
+            final int result = readVarInt();
+            if ((result < 0) || (result > source.remaining())) {
+                throw new IllegalArgumentException("invalid count: " + result);
+            }
+            return result;
+        }
+
+        private int readVarInt() {
+            int result = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                final byte next = source.get();
+                result |= (next & 0x7F) << shift;
+                if (0 == (next & 0x80)) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("invalid variable length integer");
+        }
+    }
+}
@@ -4,28 +4,44 @@ import java.util.Optional;
 
 /**
  * An unchecked exception that is used to signal an unexpected state, particularly an unexpected exception.
+ * <p>
+ * An instance may carry a {@link Context}, which is rendered into its {@linkplain #getMessage() message} only when
+ * requested.
  */
-public class ExpectationException extends RuntimeException {
+public class ExpectationException extends RuntimeException implements Contextual {
+
+    private volatile Context context = Context.empty();
 
     /**
      * Initializes a new instance with the given message.
      */
     public ExpectationException(final String message) {
-        super(message);
+        this(Events.beginExpectation(), message);
     }
 
     /**
      * Initializes a new instance with the given message and cause.
      */
     public ExpectationException(final String message, final Throwable cause) {
-        super(message, cause);
+        this(Events.beginExpectation(), message, cause);
     }
 
     /**
      * Initializes a new instance with the given cause and its {@link Throwable#getMessage() message}.
      */
     public ExpectationException(final Throwable cause) {
-        super("Unexpected: " + messageOf(cause), cause);
+        this(Events.beginExpectation(), "Unexpected: " + messageOf(cause), cause);
+    }
+
+    // The recording covers the creation, but gets the arguments rather than the incomplete instance ...
+    private ExpectationException(final Object token, final String message) {
+        super(message);
+        Events.expected(token, message, null);
+    }
+
+    private ExpectationException(final Object token, final String message, final Throwable cause) {
+        super(message, cause);
+        Events.expected(token, message, cause);
     }
 
     private static String messageOf(final Throwable cause) {
@@ -38,4 +54,38 @@ public class ExpectationException extends RuntimeException {
         return Optional.ofNullable(cause.getMessage())
                        .orElseGet(() -> cause.getClass().getSimpleName());
     }
+
+    /**
+     * Returns the message given on construction followed by the rendered {@link Context}, if any.
+     */
+    @Override
+    public String getMessage() {
+        final String message = super.getMessage();
+        final Context context = this.context;
+        if (context.isEmpty()) {
+            return message;
+        }
+        return (null == message) ? context.toString() : (message + " " + context);
+    }
+
+    final String plainMessage() {
+        return super.getMessage();
+    }
+
+    @Override
+    public final synchronized ExpectationException with(final String key, final Object value) {
+        context = context.with(key, value);
+        return this;
+    }
+
+    @Override
+    public final synchronized ExpectationException with(final Context context) {
+        this.context = this.context.with(context);
+        return this;
+    }
+
+    @Override
+    public final Context context() {
+        return context;
+    }
 }
@@ -0,0 +1,93 @@
+package de.team33.libs.exceptional.v4;
+
+/**
+ * A utility that computes a stable 64-bit fingerprint of an exception chain.
+ * <p>
+ * The fingerprint takes into account the types of all exceptions along the chain of
+ * {@linkplain Throwable#getCause() causes} and the top stack frames of each of them. It walks through any wrapping
+ * layers, e.g. {@link WrappedException}s and {@link ExpectationException}s, so two failures that originate from the
+ * same place get the same fingerprint, while the same type of failure from different places does not.
+ * <p>
+ * The computation is based on hash codes that are cached by the JVM (class names, method names, file names) and does
+ * not build any strings. It is not free of allocations, though: {@link Throwable#getStackTrace()} returns a copy of
+ * the frame array of each exception along the chain and creates the frames themselves on its first call. Still, a
+ * fingerprint is considerably cheaper than a rendered stack trace, e.g. to deduplicate failures before logging
+ * them.
+ *
+ * @see Occurrences
+ */
+public final class Fingerprint {
+
+    /**
+     * The default number of stack frames per exception that are taken into account.
+     */
+    public static final int DEFAULT_DEPTH = 8;
+
+    private static final int MAX_CHAIN_LENGTH = 64;
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final long NULL_HASH = 0x6A09E667F3BCC909L;
+
+    private Fingerprint() {
+    }
+
+    /**
+     * Returns the fingerprint of the given exception chain, taking into account the {@link #DEFAULT_DEPTH top stack
+     * frames} of each exception along the chain.
+     *
+     * @param exception The exception to be fingerprinted. May be {@code null}.
+     */
+    public static long of(final Throwable exception) {
+        return of(exception, DEFAULT_DEPTH);
+    }
+
+    /**
+     * Returns the fingerprint of the given exception chain, taking into account the top {@code depth} stack frames of
+     * each exception along the chain.
+     *
+     * @param exception The exception to be fingerprinted. May be {@code null}.
+     * @param depth     The number of stack frames per exception to be taken into account, at least {@code 0}.
+     */
+    public static long of(final Throwable exception, final int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("<depth> must not be negative but was " + depth);
+        }
+        long result = SEED;
+        Throwable current = exception;
+        for (int index = 0; (null != current) && (index < MAX_CHAIN_LENGTH); ++index) {
+            result = mix(result, hash(current, depth));
+            current = current.getCause();
+        }
+        return result;
+    }
+
+    private static long hash(final Throwable exception, final int depth) {
+        long result = exception.getClass().getName().hashCode();
+        final StackTraceElement[] frames = exception.getStackTrace();
+        final int limit = Math.min(depth, frames.length);
+        for (int index = 0; index < limit; ++index) {
+            result = mix(result, hash(frames[index]));
+        }
+        return result;
+    }
+
+    private static long hash(final StackTraceElement frame) {
+        long result = hash(frame.getClassName());
+        result = mix(result, hash(frame.getMethodName()));
+        result = mix(result, hash(frame.getFileName()));
+        return mix(result, frame.getLineNumber());
+    }
+
+    private static long hash(final String string) {
+        return (null == string) ? NULL_HASH : string.hashCode();
+    }
+
+    private static long mix(final long hash, final long value) {
+        // The finalization step of MurmurHash3 (64 bit) applied to the combined values ...
+        long result = (hash * 31) ^ value;
+        result ^= result >>> 33;
+        result *= 0xFF51AFD7ED558CCDL;
+        result ^= result >>> 33;
+        result *= 0xC4CEB9FE1A85EC53L;
+        return result ^ (result >>> 33);
+    }
+}
@@ -31,37 +31,68 @@ import java.util.function.Function;
  *                   .mappedCause(ExpectationException::new);
  * }
  * </pre>
+ * <p>
+ * The {@link Throwable#getCause() cause} that is subject to the differentiated handling is the first cause along the
+ * chain of causes that is not a <em>transparent</em> wrapper as determined by an {@link Unwrapping}. By default, the
+ * {@linkplain Unwrapping#standard() standard unwrapping} applies, so the actual cause is found behind any number of
+ * layers of e.g. {@link WrappedException}, {@link java.util.concurrent.ExecutionException} or
+ * {@link java.lang.reflect.InvocationTargetException}.
  *
  * @see #of(Throwable)
+ * @see #of(Throwable, Unwrapping)
  * @see #reThrowCauseIf(Class)
  * @see #mappedCause(Function)
+ * @see #recovered(Recovery)
  */
 public final class Handling<T extends Throwable> {
 
+    private static final int MAX_DEPTH = 64;
+
     private final T subject;
     private final Throwable cause;
+    private final Object event;
 
-    private Handling(final T subject) {
+    private Handling(final T subject, final Unwrapping unwrapping) {
         this.subject = subject;
-        this.cause = subject.getCause();
+        this.cause = unwrapping.unwrap(subject.getCause());
+        this.event = Events.beginHandling();
     }
 
     /**
-     * Returns a new instance to handle a given exception.
+     * Returns a new instance to handle a given exception using the {@linkplain Unwrapping#standard() standard
+     * unwrapping}.
      *
      * @param subject the exception to be handled
      * @param <T>     the type of the given exception
      */
     public static <T extends Throwable> Handling<T> of(final T subject) {
-        return new Handling<>(subject);
+        return new Handling<>(subject, Unwrapping.standard());
+    }
+
+    /**
+     * Returns a new instance to handle a given exception using a given {@link Unwrapping} to determine the
+     * {@link Throwable#getCause() cause} that is subject to the differentiated handling.
+     *
+     * @param subject    the exception to be handled
+     * @param unwrapping the {@link Unwrapping} that determines which layers of causes are transparent
+     * @param <T>        the type of the given exception
+     */
+    public static <T extends Throwable> Handling<T> of(final T subject, final Unwrapping unwrapping) {
+        return new Handling<>(subject, unwrapping);
     }
 
-    private static <X extends Throwable> void throwIfPresent(final X exception) throws X {
+    private <X extends Throwable> void throwIfPresent(final String branch, final X exception) throws X {
         if (null != exception) {
+            Events.handled(event, branch, subject, cause);
             throw exception;
         }
     }
 
+    private <R> R fired(final String branch, final R result) {
+        Events.handled(event, branch, subject, cause);
+        return result;
+    }
+
     /**
      * Re-throws the {@link Throwable#getCause() cause} of the {@linkplain #of(Throwable) associated exception}
      * if it matches the given exception type. Otherwise this {@link Handling} will be returned. Example:
@@ -90,7 +121,7 @@ public final class Handling<T extends Throwable> {
      * @see #throwMappedCause(Function)
      */
     public final <X extends Throwable> Handling<T> reThrowCauseIf(final Class<X> type) throws X {
-        throwIfPresent(type.isInstance(cause) ? type.cast(cause) : null);
+        throwIfPresent("reThrowCauseIf", type.isInstance(cause) ? type.cast(cause) : null);
         return this;
     }
 
@@ -99,7 +130,7 @@ public final class Handling<T extends Throwable> {
      */
     @Deprecated
     public final <X extends Throwable> Handling<T> reThrowIf(final Class<X> type) throws X {
-        throwIfPresent(type.isInstance(subject) ? type.cast(subject) : null);
+        throwIfPresent("reThrowIf", type.isInstance(subject) ? type.cast(subject) : null);
         return this;
     }
 
@@ -117,7 +148,7 @@ public final class Handling<T extends Throwable> {
      * @see #throwMappedCause(Function)
      */
     public final <X extends Throwable> Handling<T> throwMapped(final Function<? super T, X> mapping) throws X {
-        throwIfPresent(mapping.apply(subject));
+        throwIfPresent("throwMapped", mapping.apply(subject));
         return this;
     }
 
@@ -137,7 +168,7 @@ public final class Handling<T extends Throwable> {
      * @see #reThrowCauseIf(Class)
      */
     public final <X extends Throwable> Handling<T> throwMappedCause(final Function<Throwable, X> mapping) throws X {
-        throwIfPresent(mapping.apply(cause));
+        throwIfPresent("throwMappedCause", mapping.apply(cause));
         return this;
     }
 
@@ -145,7 +176,7 @@ public final class Handling<T extends Throwable> {
      * Returns the {@linkplain #of(Throwable) associated exception}.
      */
     public final T fallback() {
-        return subject;
+        return fired("fallback", subject);
     }
 
     /**
@@ -153,7 +184,7 @@ public final class Handling<T extends Throwable> {
      * result.
      */
     public final <X extends Throwable> X mapped(final Function<? super T, X> mapping) {
-        return mapping.apply(subject);
+        return fired("mapped", mapping.apply(subject));
     }
 
     /**
@@ -161,6 +192,41 @@ public final class Handling<T extends Throwable> {
      * {@linkplain #of(Throwable) associated exception} and returns the result.
      */
     public final <X extends Throwable> X mappedCause(final Function<Throwable, X> mapping) {
-        return mapping.apply(cause);
+        return fired("mappedCause", mapping.apply(cause));
+    }
+
+    /**
+     * Applies a given {@link Recovery} to the {@link Throwable#getCause() cause} of the
+     * {@linkplain #of(Throwable) associated exception} and returns the result. Example:
+     * <pre>
+     * try {
+     *     return doSomethingThatMayThrowAWrappedException();
+     * } catch (final WrappedException caught) {
+     *     // A recovery is intended to be defined once and to be reused ...
+     *     return Handling.of(caught).recovered(RECOVERY);
+     * }
+     * </pre>
+     *
+     * @see Recovery#onCause(Class, Function)
+     */
+    public final <R> R recovered(final Recovery<R> recovery) {
+        return fired("recovered", recovery.apply(cause));
+    }
+
+    /**
+     * Returns the {@link Context} of the {@linkplain #of(Throwable) associated exception}, merged with the contexts
+     * of all {@link Contextual} exceptions along its chain of {@link Throwable#getCause() causes}. If the same key
+     * occurs more than once, the value of the outermost exception applies.
+     */
+    public final Context context() {
+        Context result = Context.empty();
+        Throwable current = subject;
+        for (int depth = 0; (depth < MAX_DEPTH) && (null != current); ++depth) {
+            if (current instanceof Contextual) {
+                result = ((Contextual) current).context().with(result);
+            }
+            current = current.getCause();
+        }
+        return result;
     }
 }
@@ -0,0 +1,248 @@
+package de.team33.libs.exceptional.v4;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+/**
+ * A thread-safe table of distinct failures, identified by their {@link Fingerprint}, that records when each of them
+ * was first and last seen and how often it occurred.
+ * <p>
+ * The table is intended to log each distinct failure at most once per interval and to count the rest. Example:
+ * <pre>
+ * private static final Occurrences OCCURRENCES = Occurrences.of(1000, 1, TimeUnit.MINUTES);
+ *
+ * try {
+ *     doSomethingThatMayFail();
+ * } catch (final WrappedException caught) {
+ *     if (OCCURRENCES.record(caught)) {
+ *         LOG.warn("failed", caught);
+ *     }
+ * }
+ * </pre>
+ * The table is an open-addressing table of fixed size that is indexed by the fingerprints themselves, so recording a
+ * failure that is already present neither boxes the fingerprint nor allocates anything else. A new failure is
+ * placed within a few slots near its index. If all of them are occupied, the entry among them that was not seen for
+ * the longest time is replaced, so the size of the table never exceeds its capacity and an eviction costs a few
+ * reads only.
+ *
+ * @see Fingerprint
+ */
+public final class Occurrences {
+
+    private static final long NEVER = Long.MIN_VALUE;
+    private static final int MAX_PROBES = 8;
+
+    private final long interval;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Entry> slots;
+    private final int probes;
+
+    private Occurrences(final int capacity, final long interval, final LongSupplier clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("<capacity> must be positive but was " + capacity);
+        }
+        if (interval < 0) {
+            throw new IllegalArgumentException("<interval> must not be negative but was " + interval);
+        }
+        this.interval = interval;
+        this.clock = clock;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.probes = Math.min(capacity, MAX_PROBES);
+    }
+
+    /**
+     * Returns a new instance with a given capacity that reports each distinct failure at most once per given
+     * interval.
+     *
+     * @param capacity The maximum number of distinct failures to be recorded.
+     * @param interval The minimum interval between two reports of the same failure.
+     * @param unit     The {@link TimeUnit} of the given interval.
+     */
+    public static Occurrences of(final int capacity, final long interval, final TimeUnit unit) {
+        return of(capacity, interval, unit, System::currentTimeMillis);
+    }
+
+    /**
+     * Returns a new instance like {@link #of(int, long, TimeUnit)} that uses a given clock.
+     *
+     * @param clock A {@link LongSupplier} that returns the current time in milliseconds.
+     */
+    public static Occurrences of(final int capacity, final long interval, final TimeUnit unit,
+                                 final LongSupplier clock) {
+        return new Occurrences(capacity, unit.toMillis(interval), clock);
+    }
+
+    /**
+     * Records an occurrence of a given failure and indicates whether it should be reported.
+     *
+     * @return {@code true} if the given failure was not reported within the current interval and therefore should be
+     * reported now, {@code false} if it was already reported and thus only has been counted.
+     * @see Fingerprint#of(Throwable)
+     */
+    public final boolean record(final Throwable failure) {
+        return record(Fingerprint.of(failure));
+    }
+
+    /**
+     * Records an occurrence of a failure identified by a given {@link Fingerprint} and indicates whether it should be
+     * reported.
+     *
+     * @return {@code true} if the identified failure was not reported within the current interval and therefore
+     * should be reported now, {@code false} if it was already reported and thus only has been counted.
+     */
+    public final boolean record(final long fingerprint) {
+        final long now = clock.getAsLong();
+        final int home = home(fingerprint);
+        while (true) {
+            final int index = slot(fingerprint, home, now);
+            final Entry entry = slots.get(index);
+            entry.count.incrementAndGet();
+            entry.lastSeen.accumulateAndGet(now, Math::max);
+            // An entry that was replaced concurrently must not swallow this occurrence ...
+            if (entry == slots.get(index)) {
+                return entry.report(now, interval);
+            }
+        }
+    }
+
+    private int home(final long fingerprint) {
+        final long mixed = fingerprint * 0x9E3779B97F4A7C15L;
+        return (int) (((mixed >>> 32) * slots.length()) >>> 32);
+    }
+
+    private int next(final int index) {
+        return (index + 1 == slots.length()) ? 0 : index + 1;
+    }
+
+    private int slot(final long fingerprint, final int home, final long now) {
+        while (true) {
+            int stalest = home;
+            long stalestSeen = Long.MAX_VALUE;
+            boolean full = true;
+            int index = home;
+            for (int probe = 0; full && (probe < probes); ++probe, index = next(index)) {
+                final Entry present = slots.get(index);
+                if (null == present) {
+                    if (slots.compareAndSet(index, null, new Entry(fingerprint, now))) {
+                        return index;
+                    }
+                    full = false;
+                } else if (fingerprint == present.fingerprint) {
+                    return index;
+                } else if (present.lastSeen() < stalestSeen) {
+                    stalestSeen = present.lastSeen();
+                    stalest = index;
+                }
+            }
+            if (full) {
+                final Entry evicted = slots.get(stalest);
+                if ((null != evicted) && (fingerprint != evicted.fingerprint) &&
+                        slots.compareAndSet(stalest, evicted, new Entry(fingerprint, now))) {
+                    return stalest;
+                }
+            }
+            // Some other thread changed the slots concerned, so start over ...
+        }
+    }
+
+    /**
+     * Returns the {@link Entry} of a failure identified by a given {@link Fingerprint}, if present.
+     */
+    public final Optional<Entry> get(final long fingerprint) {
+        int index = home(fingerprint);
+        for (int probe = 0; probe < probes; ++probe, index = next(index)) {
+            final Entry present = slots.get(index);
+            if ((null != present) && (fingerprint == present.fingerprint)) {
+                return Optional.of(present);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of all {@link Entry entries} that are currently recorded.
+     */
+    public final Collection<Entry> entries() {
+        final List<Entry> result = new ArrayList<>(slots.length());
+        for (int index = 0; index < slots.length(); ++index) {
+            final Entry entry = slots.get(index);
+            if (null != entry) {
+                result.add(entry);
+            }
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public final void clear() {
+        for (int index = 0; index < slots.length(); ++index) {
+            slots.set(index, null);
+        }
+    }
+
+    /**
+     * Represents a distinct failure recorded by {@link Occurrences}.
+     */
+    public static final class Entry {
+
+        private final long fingerprint;
+        private final long firstSeen;
+        private final AtomicLong lastSeen;
+        private final AtomicLong lastReported = new AtomicLong(NEVER);
+        private final AtomicLong count = new AtomicLong(0);
+
+        private Entry(final long fingerprint, final long now) {
+            this.fingerprint = fingerprint;
+            this.firstSeen = now;
+            this.lastSeen = new AtomicLong(now);
+        }
+
+        private boolean report(final long now, final long interval) {
+            final long reported = lastReported.get();
+            return ((NEVER == reported) || (now - reported >= interval)) && lastReported.compareAndSet(reported, now);
+        }
+
+        /**
+         * Returns the {@link Fingerprint} of the represented failure.
+         */
+        public final long fingerprint() {
+            return fingerprint;
+        }
+
+        /**
+         * Returns the time in milliseconds when the represented failure was first seen.
+         */
+        public final long firstSeen() {
+            return firstSeen;
+        }
+
+        /**
+         * Returns the time in milliseconds when the represented failure was last seen.
+         */
+        public final long lastSeen() {
+            return lastSeen.get();
+        }
+
+        /**
+         * Returns how often the represented failure has been recorded.
+         */
+        public final long count() {
+            return count.get();
+        }
+
+        @Override
+        public final String toString() {
+            return String.format("Entry(fingerprint: %016x, firstSeen: %d, lastSeen: %d, count: %d)",
+                                 fingerprint, firstSeen, lastSeen(), count());
+        }
+    }
+}
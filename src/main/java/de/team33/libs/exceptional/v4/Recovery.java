@@ -0,0 +1,118 @@
+package de.team33.libs.exceptional.v4;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A switch-like table that turns an exception into a value depending on its type, e.g. to get a fallback result per
+ * type of failure. Example:
+ * <pre>
+ * private static final Recovery&lt;String&gt; RECOVERY =
+ *         Recovery.onCause(FileNotFoundException.class, e -&gt; "not found")
+ *                 .onCause(IOException.class, e -&gt; "not readable")
+ *                 .otherwise(e -&gt; {
+ *                     throw new ExpectationException(e);
+ *                 });
+ *
+ * try {
+ *     return doSomethingThatMayThrowAWrappedException();
+ * } catch (final WrappedException caught) {
+ *     return Handling.of(caught).recovered(RECOVERY);
+ * }
+ * </pre>
+ * The cases are checked in the order of their definition and the first matching one applies. The matching case per
+ * exception type is determined once and cached, so applying an instance to an exception of a known type costs a
+ * table lookup rather than a sequence of type checks.
+ * <p>
+ * An instance is immutable and thread-safe. It is intended to be defined once and to be reused.
+ *
+ * @param <R> The result type.
+ * @see Handling#recovered(Recovery)
+ */
+public final class Recovery<R> {
+
+    private final Function<Throwable, ? extends R> otherwise;
+    private final ClassValue<Function<Throwable, ? extends R>> table;
+
+    private Recovery(final Builder<R> builder, final Function<Throwable, ? extends R> otherwise) {
+        final List<Class<? extends Throwable>> types = Collections.unmodifiableList(new ArrayList<>(builder.types));
+        final List<Function<Throwable, ? extends R>> functions =
+                Collections.unmodifiableList(new ArrayList<>(builder.functions));
+        this.otherwise = otherwise;
+        this.table = new ClassValue<Function<Throwable, ? extends R>>() {
+            @Override
+            protected Function<Throwable, ? extends R> computeValue(final Class<?> type) {
+                for (int index = 0; index < types.size(); ++index) {
+                    if (types.get(index).isAssignableFrom(type)) {
+                        return functions.get(index);
+                    }
+                }
+                return otherwise;
+            }
+        };
+    }
+
+    /**
+     * Starts the definition of a new instance with a first case: If an exception to be recovered is an instance of
+     * the given type, the given function will be applied to it.
+     *
+     * @param type     The {@link Class} that represents the type of exception to be handled by this case.
+     * @param function The {@link Function} that turns an exception of the given type into a result.
+     * @param <X>      The type of exception to be handled by this case.
+     * @param <R>      The result type.
+     */
+    public static <X extends Throwable, R> Builder<R> onCause(final Class<X> type,
+                                                              final Function<? super X, ? extends R> function) {
+        return new Builder<R>().onCause(type, function);
+    }
+
+    /**
+     * Applies the first matching case to a given exception and returns the result. If no case matches or the given
+     * exception is {@code null}, the {@linkplain Builder#otherwise(Function) otherwise-case} applies.
+     */
+    public final R apply(final Throwable exception) {
+        return (null == exception) ? otherwise.apply(null) : table.get(exception.getClass()).apply(exception);
+    }
+
+    /**
+     * A builder for {@link Recovery} instances.
+     *
+     * @param <R> The result type.
+     */
+    public static final class Builder<R> {
+
+        private final List<Class<? extends Throwable>> types = new ArrayList<>();
+        private final List<Function<Throwable, ? extends R>> functions = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a case: If an exception to be recovered is an instance of the given type and no previously defined
+         * case matches, the given function will be applied to it.
+         *
+         * @param type     The {@link Class} that represents the type of exception to be handled by this case.
+         * @param function The {@link Function} that turns an exception of the given type into a result.
+         * @param <X>      The type of exception to be handled by this case.
+         */
+        public final <X extends Throwable> Builder<R> onCause(final Class<X> type,
+                                                              final Function<? super X, ? extends R> function) {
+            types.add(type);
+            functions.add(exception -> function.apply(type.cast(exception)));
+            return this;
+        }
+
+        /**
+         * Completes the definition with a final case that applies if no other case matches and returns the
+         * resulting {@link Recovery}. The given function may also throw an unchecked exception.
+         *
+         * @param function The {@link Function} that turns any other exception, including {@code null}, into a
+         *                 result.
+         */
+        public final Recovery<R> otherwise(final Function<Throwable, ? extends R> function) {
+            return new Recovery<>(this, function);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package de.team33.libs.exceptional.v4;
+
+import java.util.function.Supplier;
+
+/**
+ * Utility to skip the capture of the current thread's stack trace when an exception of this library is created,
+ * because a partial stack trace will be set instead.
+ *
+ * @see WrappedException#fillInStackTrace()
+ */
+final class StackCapture {
+
+    private static final ThreadLocal<boolean[]> SKIPPING = ThreadLocal.withInitial(() -> new boolean[1]);
+
+    private StackCapture() {
+    }
+
+    /**
+     * Gets the result of a given {@link Supplier}, skipping the capture for the first exception of this library that
+     * is created meanwhile.
+     */
+    static <R> R skippingOnce(final Supplier<R> supplier) {
+        final boolean[] skipping = SKIPPING.get();
+        final boolean previous = skipping[0];
+        skipping[0] = true;
+        try {
+            return supplier.get();
+        } finally {
+            skipping[0] = previous;
+        }
+    }
+
+    /**
+     * Determines whether the capture is to be skipped for an exception being created, which then consumes the skip.
+     */
+    static boolean skip() {
+        final boolean[] skipping = SKIPPING.get();
+        if (skipping[0]) {
+            skipping[0] = false;
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,33 @@
+package de.team33.libs.exceptional.v4;
+
+import java.util.Arrays;
+
+/**
+ * Utility to capture partial stack traces of the current thread.
+ * <p>
+ * This is the Java 8 implementation, which trims a fully captured stack trace. Java 9 and newer use a variant based
+ * on {@code StackWalker} from the versioned section of the multi-release JAR, which only walks the frames needed.
+ */
+final class StackTraces {
+
+    private static final String LIBRARY_PREFIX = "de.team33.libs.exceptional.v4.";
+
+    private StackTraces() {
+    }
+
+    /**
+     * Returns the top {@code depth} frames of the current thread's stack, skipping the frames of this library on top.
+     */
+    static StackTraceElement[] callerFrames(final int depth) {
+        final StackTraceElement[] frames = new Throwable().getStackTrace();
+        int start = 0;
+        while ((start < frames.length) && isLibrary(frames[start].getClassName())) {
+            start += 1;
+        }
+        return Arrays.copyOfRange(frames, start, Math.min(frames.length, start + depth));
+    }
+
+    static boolean isLibrary(final String className) {
+        return className.startsWith(LIBRARY_PREFIX);
+    }
+}
@@ -0,0 +1,112 @@
+package de.team33.libs.exceptional.v4;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * A table that translates an exception into an unchecked exception depending on its type, e.g. to be used as the
+ * wrapping method of a {@link de.team33.libs.exceptional.v4.functional.Converter Converter}. Example:
+ * <pre>
+ * private static final Converter CONVERTER = Converter.using(
+ *         Translation.on(SQLTimeoutException.class, RetryableException::new)
+ *                    .on(FileNotFoundException.class, NotFoundException::new)
+ *                    .otherwise(WrappedException::new));
+ * </pre>
+ * The translation of an exception is defined by the most specific type along its superclass chain that has been
+ * registered, regardless of the order of registration. It is determined once per exception type and cached, so
+ * translating an exception of a known type costs a table lookup rather than a sequence of type checks.
+ * <p>
+ * An instance is immutable and thread-safe. It is intended to be defined once and to be reused.
+ *
+ * @see Recovery
+ */
+public final class Translation implements Function<Throwable, RuntimeException> {
+
+    private final Function<Throwable, ? extends RuntimeException> otherwise;
+    private final ClassValue<Function<Throwable, ? extends RuntimeException>> table;
+
+    private Translation(final Builder builder, final Function<Throwable, ? extends RuntimeException> otherwise) {
+        final Map<Class<?>, Function<Throwable, ? extends RuntimeException>> wrappings =
+                Collections.unmodifiableMap(new LinkedHashMap<>(builder.wrappings));
+        this.otherwise = otherwise;
+        this.table = new ClassValue<Function<Throwable, ? extends RuntimeException>>() {
+            @Override
+            protected Function<Throwable, ? extends RuntimeException> computeValue(final Class<?> type) {
+                for (Class<?> current = type; null != current; current = current.getSuperclass()) {
+                    final Function<Throwable, ? extends RuntimeException> result = wrappings.get(current);
+                    if (null != result) {
+                        return result;
+                    }
+                }
+                return otherwise;
+            }
+        };
+    }
+
+    /**
+     * Starts the definition of a new instance with a first translation: An exception of the given type, including
+     * its subtypes, will be translated using the given wrapping method, unless a more specific type is registered.
+     *
+     * @param type     The {@link Class} that represents the type of exception to be translated.
+     * @param wrapping The {@link Function} that creates the unchecked exception from an exception of the given type.
+     * @param <X>      The type of exception to be translated.
+     * @see Wrapping
+     */
+    public static <X extends Throwable> Builder on(final Class<X> type,
+                                                   final Function<? super X, ? extends RuntimeException> wrapping) {
+        return new Builder().on(type, wrapping);
+    }
+
+    /**
+     * Translates a given exception into an unchecked exception. If no registered type matches or the given exception
+     * is {@code null}, the {@linkplain Builder#otherwise(Function) otherwise-wrapping} applies.
+     */
+    @Override
+    public final RuntimeException apply(final Throwable exception) {
+        return (null == exception) ? otherwise.apply(null) : table.get(exception.getClass()).apply(exception);
+    }
+
+    /**
+     * A builder for {@link Translation} instances.
+     */
+    public static final class Builder {
+
+        private final Map<Class<?>, Function<Throwable, ? extends RuntimeException>> wrappings =
+                new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Adds a translation: An exception of the given type, including its subtypes, will be translated using the
+         * given wrapping method, unless a more specific type is registered.
+         *
+         * @param type     The {@link Class} that represents the type of exception to be translated.
+         * @param wrapping The {@link Function} that creates the unchecked exception from an exception of the given
+         *                 type.
+         * @param <X>      The type of exception to be translated.
+         * @throws IllegalArgumentException if the given type is already registered.
+         */
+        public final <X extends Throwable> Builder on(final Class<X> type,
+                                                      final Function<? super X, ? extends RuntimeException> wrapping) {
+            if (wrappings.containsKey(type)) {
+                throw new IllegalArgumentException("<type> is already registered: " + type);
+            }
+            wrappings.put(type, exception -> wrapping.apply(type.cast(exception)));
+            return this;
+        }
+
+        /**
+         * Completes the definition with a final wrapping method that applies to any other exception and returns the
+         * resulting {@link Translation}.
+         *
+         * @param wrapping The {@link Function} that creates the unchecked exception from any other exception,
+         *                 including {@code null}.
+         */
+        public final Translation otherwise(final Function<Throwable, ? extends RuntimeException> wrapping) {
+            return new Translation(this, wrapping);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package de.team33.libs.exceptional.v4;
+
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * A registry of <em>transparent</em> wrapper exception types, i.e. exception types that only serve to transport
+ * another exception, their {@link Throwable#getCause() cause}.
+ * <p>
+ * An instance is immutable and can be used to peel off all transparent layers of an exception in one pass. Whether a
+ * certain exception type is transparent is determined once per type and cached, so the check itself is a constant
+ * time lookup.
+ * <p>
+ * The {@linkplain #standard() standard instance} treats the well-known wrapper types of the JDK and the
+ * {@link WrappedException} and {@link ElementException} of this library as transparent. User-defined wrapper types
+ * may be registered using {@link #with(Class[])}.
+ *
+ * @see Handling#of(Throwable, Unwrapping)
+ */
+public final class Unwrapping {
+
+    private static final int MAX_DEPTH = 64;
+
+    private static final Unwrapping NONE = new Unwrapping(Collections.emptySet());
+    private static final Unwrapping STANDARD = NONE.with(WrappedException.class,
+                                                         ElementException.class,
+                                                         InvocationTargetException.class,
+                                                         UndeclaredThrowableException.class,
+                                                         ExecutionException.class,
+                                                         CompletionException.class,
+                                                         UncheckedIOException.class);
+
+    private final Set<Class<? extends Throwable>> types;
+    private final ClassValue<Boolean> transparency = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            return types.stream().anyMatch(candidate -> candidate.isAssignableFrom(type));
+        }
+    };
+
+    private Unwrapping(final Set<Class<? extends Throwable>> types) {
+        this.types = types;
+    }
+
+    /**
+     * Returns an instance that does not treat any exception type as transparent.
+     */
+    public static Unwrapping none() {
+        return NONE;
+    }
+
+    /**
+     * Returns an instance that treats the well-known wrapper types {@link WrappedException},
+     * {@link ElementException}, {@link InvocationTargetException}, {@link UndeclaredThrowableException},
+     * {@link ExecutionException}, {@link CompletionException} and {@link UncheckedIOException} as transparent.
+     */
+    public static Unwrapping standard() {
+        return STANDARD;
+    }
+
+    /**
+     * Returns a new instance that additionally treats the given exception types, including their subtypes, as
+     * transparent.
+     */
+    @SafeVarargs
+    public final Unwrapping with(final Class<? extends Throwable>... types) {
+        final Set<Class<? extends Throwable>> union = new LinkedHashSet<>(this.types);
+        union.addAll(Arrays.asList(types));
+        return new Unwrapping(Collections.unmodifiableSet(union));
+    }
+
+    /**
+     * Determines whether a given exception type is treated as transparent by this instance.
+     */
+    public final boolean isTransparent(final Class<?> type) {
+        return transparency.get(type);
+    }
+
+    /**
+     * Peels off all transparent layers of a given exception and returns the first one that is not transparent.
+     * A transparent layer without a cause is not peeled off.
+     *
+     * @param exception The exception to be unwrapped. May be {@code null}.
+     * @return The first non-transparent exception along the chain of causes, the given exception itself if it is not
+     * transparent or {@code null} if the given exception is {@code null}.
+     */
+    public final Throwable unwrap(final Throwable exception) {
+        Throwable result = exception;
+        for (int depth = 0; (depth < MAX_DEPTH) && (null != result) && isTransparent(result.getClass()); ++depth) {
+            final Throwable cause = result.getCause();
+            if (null == cause) {
+                break;
+            }
+            result = cause;
+        }
+        return result;
+    }
+}
@@ -1,19 +1,23 @@
 package de.team33.libs.exceptional.v4;
 
-import java.util.Objects;
 import java.util.Optional;
 
 import static java.util.Objects.requireNonNull;
 
 /**
  * An unchecked exception dedicated to wrap checked exceptions.
+ * <p>
+ * An instance may carry a {@link Context}, which is rendered into its {@linkplain #getMessage() message} only when
+ * requested.
  */
-public class WrappedException extends RuntimeException {
+public class WrappedException extends RuntimeException implements Contextual {
 
     private static final String MISSING_CAUSE = "A " +
             WrappedException.class.getSimpleName() +
             " is expected to have a real cause but was <null>";
 
+    private volatile Context context = Context.empty();
+
     /**
      * Initializes a new instance with the given message and cause.
      */
@@ -29,11 +33,52 @@ public class WrappedException extends RuntimeException {
     }
 
     private WrappedException(final Throwable cause, final String message) {
-        super(Optional.ofNullable(message)
-                      .orElseGet(() -> stdMessage(cause)), cause);
+        super(message, cause);
+    }
+
+    /**
+     * Captures the stack trace of the current thread unless a partial stack trace will be
+     * {@linkplain Wrapping#trimmed(int, java.util.function.Function) set} instead.
+     */
+    @Override
+    public Throwable fillInStackTrace() {
+        return StackCapture.skip() ? this : super.fillInStackTrace();
     }
 
     private static String stdMessage(final Throwable cause) {
         return "wrapped: " + cause.getMessage();
     }
+
+    /**
+     * Returns the message given on construction or, by default, a message derived from the cause, followed by the
+     * rendered {@link Context}, if any.
+     */
+    @Override
+    public String getMessage() {
+        final String message = Optional.ofNullable(super.getMessage())
+                                       .orElseGet(() -> stdMessage(getCause()));
+        final Context context = this.context;
+        return context.isEmpty() ? message : (message + " " + context);
+    }
+
+    final String plainMessage() {
+        return super.getMessage();
+    }
+
+    @Override
+    public final synchronized WrappedException with(final String key, final Object value) {
+        context = context.with(key, value);
+        return this;
+    }
+
+    @Override
+    public final synchronized WrappedException with(final Context context) {
+        this.context = this.context.with(context);
+        return this;
+    }
+
+    @Override
+    public final Context context() {
+        return context;
+    }
 }
@@ -1,5 +1,10 @@
 package de.team33.libs.exceptional.v4;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
@@ -8,6 +13,17 @@ import java.util.function.Function;
  */
 public final class Wrapping {
 
+    private static final MethodType FACTORY_TYPE = MethodType.methodType(Throwable.class, String.class,
+                                                                         Throwable.class);
+    private static final StackTraceElement[] NO_FRAMES = {};
+    private static final MethodHandle INIT_CAUSE = initCause();
+    private static final ClassValue<MethodHandle> FACTORIES = new ClassValue<MethodHandle>() {
+        @Override
+        protected MethodHandle computeValue(final Class<?> type) {
+            return factory(type);
+        }
+    };
+
     private Wrapping() {
     }
 
@@ -73,6 +89,117 @@ public final class Wrapping {
         return x1 -> apply(x1, message, function);
     }
 
+    /**
+     * Results in a wrapping method that applies a given wrapping method and then reduces the stack trace of the
+     * resulting exception to the top {@code depth} frames of the calling code. The frames of this library on top of
+     * the stack are skipped.
+     * <p>
+     * Exceptions with partial stack traces are considerably cheaper to log, print or serialize. If the wrapping
+     * method creates a {@link WrappedException}, it is also cheaper to create, because its full stack trace is not
+     * captured at all: only the retained frames are, which on Java 9 and newer walks just those frames, while on
+     * Java 8 the full stack is still walked once. Exceptions of other types capture their full stack trace on
+     * construction, which is then replaced.
+     *
+     * @param depth    The maximum number of stack frames to be retained, at least {@code 0}.
+     * @param wrapping The wrapping method that creates the resulting exception.
+     * @see Throwable#setStackTrace(StackTraceElement[])
+     */
+    public static <X1 extends Throwable, X2 extends Throwable>
+    Function<X1, X2> trimmed(final int depth, final Function<X1, X2> wrapping) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("<depth> must not be negative but was " + depth);
+        }
+        return x1 -> trim(StackCapture.skippingOnce(() -> wrapping.apply(x1)), depth);
+    }
+
+    /**
+     * Results in a wrapping method such as is required in some places in this library to wrap an exception in another
+     * exception.
+     * <p>
+     * This variant determines a suitable public constructor of a given exception type: preferably one that requires
+     * the message text and the causing exception, otherwise one that only requires the causing exception or, at last,
+     * one that only requires the message text, in which case the causing exception is set just after the
+     * construction. The message text is taken from the causing exception.
+     * <p>
+     * The constructor is determined only once per exception type and is then invoked via a cached
+     * {@link MethodHandle}, so the resulting method is about as cheap as a constructor reference.
+     *
+     * @param type The type of the exceptions to be created.
+     * @throws IllegalArgumentException if the given type is abstract, does not provide a suitable public
+     *                                  constructor or is not publicly accessible, e.g. a non-public class.
+     * @see #normal(BiFunction)
+     * @see #varying(Function)
+     */
+    public static <X1 extends Throwable, X2 extends Throwable>
+    Function<X1, X2> byType(final Class<? extends X2> type) {
+        final MethodHandle factory = FACTORIES.get(type);
+        return x1 -> create(factory, x1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X1 extends Throwable, X2 extends Throwable> X2 create(final MethodHandle factory, final X1 x1) {
+        try {
+            return (X2) (Throwable) factory.invokeExact(x1.getMessage(), (Throwable) x1);
+        } catch (final Error caught) {
+            throw caught;
+        } catch (final Throwable caught) {
+            throw new ExpectationException("Failed to create a wrapping exception for " + x1, caught);
+        }
+    }
+
+    private static MethodHandle initCause() {
+        try {
+            return MethodHandles.publicLookup().findVirtual(Throwable.class, "initCause",
+                                                            MethodType.methodType(Throwable.class, Throwable.class));
+        } catch (final NoSuchMethodException | IllegalAccessException caught) {
+            throw new ExpectationException("Throwable.initCause(Throwable) is expected to be accessible", caught);
+        }
+    }
+
+    private static MethodHandle factory(final Class<?> type) {
+        if (!Throwable.class.isAssignableFrom(type) || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException("<type> must be a concrete exception type but was " + type);
+        }
+        final MethodHandle full = constructor(type, String.class, Throwable.class);
+        if (null != full) {
+            return full.asType(FACTORY_TYPE);
+        }
+        final MethodHandle causeOnly = constructor(type, Throwable.class);
+        if (null != causeOnly) {
+            return MethodHandles.dropArguments(causeOnly.asType(MethodType.methodType(Throwable.class,
+                                                                                      Throwable.class)),
+                                               0, String.class);
+        }
+        final MethodHandle messageOnly = constructor(type, String.class);
+        if (null != messageOnly) {
+            return MethodHandles.collectArguments(INIT_CAUSE, 0,
+                                                  messageOnly.asType(MethodType.methodType(Throwable.class,
+                                                                                           String.class)));
+        }
+        throw new IllegalArgumentException("<type> provides no public constructor (String, Throwable), " +
+                                                   "(Throwable) or (String): " + type);
+    }
+
+    private static MethodHandle constructor(final Class<?> type, final Class<?>... parameterTypes) {
+        final Constructor<?> constructor;
+        try {
+            constructor = type.getConstructor(parameterTypes);
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        }
+        try {
+            return MethodHandles.publicLookup().unreflectConstructor(constructor);
+        } catch (final IllegalAccessException caught) {
+            // e.g. a public constructor of a non-public class ...
+            throw new IllegalArgumentException("<type> is not accessible: " + type, caught);
+        }
+    }
+
+    private static <X extends Throwable> X trim(final X exception, final int depth) {
+        exception.setStackTrace((0 == depth) ? NO_FRAMES : StackTraces.callerFrames(depth));
+        return exception;
+    }
+
     private static <X1 extends Throwable, X2 extends Throwable>
     X2 apply(final X1 x1, final String message, final Function<String, X2> function) {
         final X2 x2 = function.apply(message);
@@ -0,0 +1,254 @@
+package de.team33.libs.exceptional.v4.concurrent;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.functional.XFunction;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Coalesces concurrent requests for single keys into batch calls to a backend that is accessed by an
+ * {@link XFunction} from a {@link List} of keys to a {@link Map} of values.
+ * <p>
+ * The keys requested within a short window are collected into a batch, which is dispatched as soon as the window
+ * has elapsed or the batch has reached a maximum size. A key that is requested again while it is still pending or
+ * being loaded does not become part of another batch, the request rather gets the same result. Each requester gets
+ * the value mapped to its key, {@code null} if the backend did not return any, or the original exception if the
+ * batch call failed. Example:
+ * <pre>
+ * final BatchLoader&lt;String, Customer, IOException&gt; loader =
+ *         BatchLoader.of(repository::findAll, scheduler).withWindow(2, TimeUnit.MILLISECONDS);
+ * final Customer customer = loader.load(customerId);
+ * </pre>
+ * The batch calls are executed by a given {@link ScheduledExecutorService}, which also times the windows. While a
+ * batch call blocks, it occupies one of the scheduler's threads. So a scheduler with a single thread serializes the
+ * batch calls and delays the windows that elapse meanwhile. If the backend blocks, the scheduler should provide at
+ * least as many threads as batch calls are expected to run concurrently, plus one.
+ *
+ * @param <K> The type of keys.
+ * @param <V> The type of values.
+ * @param <X> The type of checked exception that may be thrown by the backend.
+ */
+public final class BatchLoader<K, V, X extends Exception> {
+
+    private final XFunction<? super List<K>, ? extends Map<K, ? extends V>, ? extends X> backend;
+    private final ScheduledExecutorService scheduler;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final Object lock = new Object();
+    private List<K> pending = new ArrayList<>();
+    private ScheduledFuture<?> timer = null;
+
+    private BatchLoader(final XFunction<? super List<K>, ? extends Map<K, ? extends V>, ? extends X> backend,
+                        final ScheduledExecutorService scheduler, final long windowNanos, final int maxBatchSize) {
+        this.backend = backend;
+        this.scheduler = scheduler;
+        this.windowNanos = windowNanos;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Returns a new instance that accesses a given backend using a given {@link ScheduledExecutorService}. It
+     * collects the keys requested within 10 milliseconds into batches of up to 100 keys.
+     */
+    public static <K, V, X extends Exception> BatchLoader<K, V, X> of(
+            final XFunction<? super List<K>, ? extends Map<K, ? extends V>, ? extends X> backend,
+            final ScheduledExecutorService scheduler) {
+        return new BatchLoader<>(requireNonNull(backend, "<backend> must not be null"),
+                                 requireNonNull(scheduler, "<scheduler> must not be null"),
+                                 TimeUnit.MILLISECONDS.toNanos(10), 100);
+    }
+
+    /**
+     * Returns a new instance like this one that collects the keys requested within a given window. The new instance
+     * does not share any pending requests with this one.
+     *
+     * @param window The window, at least {@code 0}.
+     * @param unit   The {@link TimeUnit} of the given window.
+     */
+    public final BatchLoader<K, V, X> withWindow(final long window, final TimeUnit unit) {
+        if (window < 0) {
+            throw new IllegalArgumentException("<window> must not be negative but was " + window);
+        }
+        return new BatchLoader<>(backend, scheduler, unit.toNanos(window), maxBatchSize);
+    }
+
+    /**
+     * Returns a new instance like this one that dispatches a batch as soon as it contains a given number of keys.
+     * The new instance does not share any pending requests with this one.
+     *
+     * @param maxBatchSize The maximum number of keys per batch, at least {@code 1}.
+     */
+    public final BatchLoader<K, V, X> withMaxBatchSize(final int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("<maxBatchSize> must be positive but was " + maxBatchSize);
+        }
+        return new BatchLoader<>(backend, scheduler, windowNanos, maxBatchSize);
+    }
+
+    /**
+     * Requests the value of a given key and returns a {@link CompletableFuture} that completes with the value, with
+     * {@code null} if the backend did not return a value for the key, or exceptionally with the original exception
+     * if the batch call failed.
+     * <p>
+     * Each call gets a future of its own, even if the key is already pending or being loaded. So cancelling or
+     * completing the returned future does not affect any other requester of the same key.
+     */
+    public final CompletableFuture<V> loadAsync(final K key) {
+        requireNonNull(key, "<key> must not be null");
+        requests.increment();
+        final CompletableFuture<V> existing = inFlight.get(key);
+        if (null != existing) {
+            deduplicated.increment();
+            return dependent(existing);
+        }
+        final CompletableFuture<V> created = new CompletableFuture<>();
+        final CompletableFuture<V> raced = inFlight.putIfAbsent(key, created);
+        if (null != raced) {
+            deduplicated.increment();
+            return dependent(raced);
+        }
+        final CompletableFuture<V> result = dependent(created);
+        enqueue(key);
+        return result;
+    }
+
+    private static <V> CompletableFuture<V> dependent(final CompletableFuture<V> future) {
+        return future.thenApply(Function.identity());
+    }
+
+    /**
+     * Requests the value of a given key and waits for it. The original exception is thrown as is if the batch call
+     * failed. If the calling thread is interrupted while waiting, a {@link WrappedException} is thrown with the
+     * interrupt status set.
+     *
+     * @return The value or {@code null} if the backend did not return a value for the key.
+     * @throws X if so.
+     */
+    public final V load(final K key) throws X {
+        try {
+            return loadAsync(key).get();
+        } catch (final ExecutionException caught) {
+            throw Causes.<X>original(caught.getCause());
+        } catch (final InterruptedException caught) {
+            Thread.currentThread().interrupt();
+            throw new WrappedException(caught);
+        }
+    }
+
+    private void enqueue(final K key) {
+        List<K> ready = null;
+        synchronized (lock) {
+            pending.add(key);
+            if (pending.size() < maxBatchSize) {
+                if (null == timer) {
+                    try {
+                        timer = scheduler.schedule(this::flush, windowNanos, TimeUnit.NANOSECONDS);
+                    } catch (final RejectedExecutionException caught) {
+                        ready = pending;
+                        pending = new ArrayList<>();
+                    }
+                }
+            } else {
+                ready = pending;
+                pending = new ArrayList<>();
+                if (null != timer) {
+                    timer.cancel(false);
+                    timer = null;
+                }
+            }
+        }
+        if (null != ready) {
+            submit(ready);
+        }
+    }
+
+    private void flush() {
+        final List<K> batch;
+        synchronized (lock) {
+            batch = pending;
+            pending = new ArrayList<>();
+            timer = null;
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private void submit(final List<K> batch) {
+        try {
+            scheduler.execute(() -> dispatch(batch));
+        } catch (final RejectedExecutionException caught) {
+            completeAll(batch, caught);
+        }
+    }
+
+    private void dispatch(final List<K> batch) {
+        batches.increment();
+        final Map<K, ? extends V> values;
+        try {
+            values = backend.apply(Collections.unmodifiableList(batch));
+        } catch (final Throwable caught) {
+            completeAll(batch, caught);
+            return;
+        }
+        final int size = batch.size();
+        for (int index = 0; index < size; ++index) {
+            final K key = batch.get(index);
+            final V value;
+            try {
+                value = (null == values) ? null : values.get(key);
+            } catch (final Throwable caught) {
+                // e.g. a map that rejects the key: no requester must be left waiting ...
+                completeAll(batch.subList(index, size), caught);
+                return;
+            }
+            inFlight.remove(key).complete(value);
+        }
+    }
+
+    private void completeAll(final List<K> batch, final Throwable failure) {
+        for (final K key : batch) {
+            inFlight.remove(key).completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * Returns the number of requested keys so far.
+     */
+    public final long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * Returns the number of requests so far that got the result of a pending or loading key.
+     */
+    public final long deduplicated() {
+        return deduplicated.sum();
+    }
+
+    /**
+     * Returns the number of batch calls so far.
+     */
+    public final long batches() {
+        return batches.sum();
+    }
+}
@@ -0,0 +1,334 @@
+package de.team33.libs.exceptional.v4.concurrent;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.functional.XFunction;
+import de.team33.libs.exceptional.v4.functional.XRunnable;
+import de.team33.libs.exceptional.v4.functional.XSupplier;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Limits the number of concurrent executions of the functional constructs it decorates, e.g. calls into a slow
+ * legacy system. All constructs decorated by the same instance share its permits.
+ * <p>
+ * The permits are counted by a lock-free counter. By default, an execution that finds no free permit fails fast
+ * with the {@link BulkheadException} of this bulkhead. Optionally, it may wait for a permit for a
+ * {@linkplain #withMaxWait(long, TimeUnit) bounded time}, parking the calling thread without holding any monitor, or
+ * it may be {@linkplain #async(XFunction, Executor) queued to an executor} without blocking the calling thread at
+ * all. A released permit signals a waiting execution, but there is no FIFO guarantee: a newly arriving execution may
+ * take the permit first. Example:
+ * <pre>
+ * final Bulkhead bulkhead = Bulkhead.of(8).withMaxWait(50, TimeUnit.MILLISECONDS);
+ * final XFunction&lt;String, Record, SQLException&gt; lookup = bulkhead.function(legacy::lookup);
+ * </pre>
+ * Any checked exception thrown by a decorated construct is passed through as is. Each instance exports metrics
+ * about its concurrency and its rejections.
+ */
+public final class Bulkhead {
+
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final int maxQueued;
+    private final BulkheadException rejection;
+    private final AtomicInteger active = new AtomicInteger(0);
+    private final AtomicInteger peak = new AtomicInteger(0);
+    private final AtomicInteger queued = new AtomicInteger(0);
+    private final AtomicInteger wip = new AtomicInteger(0);
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final Queue<Thread> waiters = new ConcurrentLinkedQueue<>();
+    private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+
+    private Bulkhead(final int maxConcurrent, final long maxWaitNanos, final int maxQueued) {
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWaitNanos;
+        this.maxQueued = maxQueued;
+        this.rejection = new BulkheadException(maxConcurrent);
+    }
+
+    /**
+     * Returns a new instance that allows up to a given number of concurrent executions and rejects any further
+     * execution immediately.
+     *
+     * @param maxConcurrent The maximum number of concurrent executions, at least {@code 1}.
+     */
+    public static Bulkhead of(final int maxConcurrent) {
+        if (maxConcurrent < 1) {
+            throw new IllegalArgumentException("<maxConcurrent> must be positive but was " + maxConcurrent);
+        }
+        return new Bulkhead(maxConcurrent, 0, 0);
+    }
+
+    /**
+     * Returns a new instance like this one whose synchronous executions wait up to a given time for a free permit
+     * before they are rejected. The new instance does not share any permits with this one.
+     * <p>
+     * If a waiting thread is interrupted, the execution fails with a {@link WrappedException} caused by an
+     * {@link InterruptedException} and the interrupt status of the thread remains set. Such an execution does not
+     * count as rejected.
+     *
+     * @param maxWait The maximum time to wait, at least {@code 0}.
+     * @param unit    The {@link TimeUnit} of the given time.
+     */
+    public final Bulkhead withMaxWait(final long maxWait, final TimeUnit unit) {
+        if (maxWait < 0) {
+            throw new IllegalArgumentException("<maxWait> must not be negative but was " + maxWait);
+        }
+        return new Bulkhead(maxConcurrent, unit.toNanos(maxWait), maxQueued);
+    }
+
+    /**
+     * Returns a new instance like this one whose {@linkplain #async(XFunction, Executor) asynchronous executions} are
+     * queued up to a given number when no permit is free. The new instance does not share any permits with this one.
+     *
+     * @param maxQueued The maximum number of queued executions, at least {@code 0}.
+     */
+    public final Bulkhead withMaxQueued(final int maxQueued) {
+        if (maxQueued < 0) {
+            throw new IllegalArgumentException("<maxQueued> must not be negative but was " + maxQueued);
+        }
+        return new Bulkhead(maxConcurrent, maxWaitNanos, maxQueued);
+    }
+
+    /**
+     * Decorates an {@link XRunnable} so that its executions are limited by this bulkhead.
+     *
+     * @throws BulkheadException when executed and rejected.
+     */
+    public final <X extends Exception> XRunnable<X> runnable(final XRunnable<X> xRunnable) {
+        requireNonNull(xRunnable, "<xRunnable> must not be null");
+        return () -> {
+            acquire();
+            try {
+                xRunnable.run();
+            } finally {
+                release();
+            }
+        };
+    }
+
+    /**
+     * Decorates an {@link XSupplier} so that its executions are limited by this bulkhead.
+     *
+     * @throws BulkheadException when executed and rejected.
+     */
+    public final <R, X extends Exception> XSupplier<R, X> supplier(final XSupplier<R, X> xSupplier) {
+        requireNonNull(xSupplier, "<xSupplier> must not be null");
+        return () -> {
+            acquire();
+            try {
+                return xSupplier.get();
+            } finally {
+                release();
+            }
+        };
+    }
+
+    /**
+     * Decorates an {@link XFunction} so that its executions are limited by this bulkhead.
+     *
+     * @throws BulkheadException when executed and rejected.
+     */
+    public final <T, R, X extends Exception> XFunction<T, R, X> function(final XFunction<T, R, X> xFunction) {
+        requireNonNull(xFunction, "<xFunction> must not be null");
+        return t -> {
+            acquire();
+            try {
+                return xFunction.apply(t);
+            } finally {
+                release();
+            }
+        };
+    }
+
+    /**
+     * Decorates an {@link XFunction} so that it is executed asynchronously by a given {@link Executor}, limited by
+     * this bulkhead. The resulting {@link Function} never blocks: it hands the execution to the executor if a permit
+     * is free, queues it if the queue is not {@linkplain #withMaxQueued(int) full} or rejects it otherwise.
+     * <p>
+     * The resulting {@link CompletableFuture} completes with the result of the execution or exceptionally with any
+     * exception it throws as is, with the {@link BulkheadException} of this bulkhead when rejected, or with a
+     * {@link RejectedExecutionException} when the executor rejects the execution.
+     */
+    public final <T, R> Function<T, CompletableFuture<R>> async(final XFunction<? super T, ? extends R, ?> xFunction,
+                                                                final Executor executor) {
+        requireNonNull(xFunction, "<xFunction> must not be null");
+        requireNonNull(executor, "<executor> must not be null");
+        return t -> {
+            final CompletableFuture<R> result = new CompletableFuture<>();
+            final Runnable dispatch = () -> dispatch(executor, result, () -> result.complete(xFunction.apply(t)));
+            if (tryAcquire()) {
+                dispatch.run();
+            } else if (enqueue(dispatch)) {
+                drain();
+            } else {
+                rejected.increment();
+                result.completeExceptionally(rejection);
+            }
+            return result;
+        };
+    }
+
+    private void dispatch(final Executor executor, final CompletableFuture<?> result, final XRunnable<?> execution) {
+        accepted.increment();
+        try {
+            executor.execute(() -> {
+                try {
+                    execution.run();
+                } catch (final Throwable caught) {
+                    result.completeExceptionally(caught);
+                } finally {
+                    release();
+                }
+            });
+        } catch (final RejectedExecutionException caught) {
+            release();
+            result.completeExceptionally(caught);
+        }
+    }
+
+    private boolean tryAcquire() {
+        for (int current = active.get(); current < maxConcurrent; current = active.get()) {
+            if (active.compareAndSet(current, current + 1)) {
+                peak.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void acquire() {
+        if (tryAcquire() || ((0 < maxWaitNanos) && awaitPermit())) {
+            accepted.increment();
+        } else {
+            rejected.increment();
+            throw rejection;
+        }
+    }
+
+    private boolean awaitPermit() {
+        final Thread current = Thread.currentThread();
+        final long deadline = System.nanoTime() + maxWaitNanos;
+        waiters.add(current);
+        try {
+            while (!tryAcquire()) {
+                if (current.isInterrupted()) {
+                    throw new WrappedException(new InterruptedException("interrupted while waiting for a permit"));
+                }
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                LockSupport.parkNanos(this, remaining);
+            }
+            return true;
+        } finally {
+            waiters.remove(current);
+            // another permit may have been released meanwhile, pass the signal on ...
+            if (active.get() < maxConcurrent) {
+                signal();
+            }
+        }
+    }
+
+    private void release() {
+        active.decrementAndGet();
+        signal();
+        drain();
+    }
+
+    private void signal() {
+        final Thread waiter = waiters.peek();
+        if (null != waiter) {
+            LockSupport.unpark(waiter);
+        }
+    }
+
+    private boolean enqueue(final Runnable dispatch) {
+        for (int current = queued.get(); current < maxQueued; current = queued.get()) {
+            if (queued.compareAndSet(current, current + 1)) {
+                pending.add(dispatch);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Dispatches pending executions as long as permits are free, serialized by {@link #wip}. A nested call, e.g. from
+     * an executor that runs the execution on the calling thread, only marks the outermost call to loop again.
+     */
+    private void drain() {
+        if (0 != wip.getAndIncrement()) {
+            return;
+        }
+        int missed = 1;
+        do {
+            // only this loop takes pending executions, so there is one as long as the queue is not empty ...
+            while (!pending.isEmpty() && tryAcquire()) {
+                queued.decrementAndGet();
+                pending.poll().run();
+            }
+            missed = wip.addAndGet(-missed);
+        } while (0 != missed);
+    }
+
+    /**
+     * Returns the maximum number of concurrent executions.
+     */
+    public final int maxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * Returns the current number of executions.
+     */
+    public final int active() {
+        return active.get();
+    }
+
+    /**
+     * Returns the highest number of concurrent executions so far.
+     */
+    public final int peak() {
+        return peak.get();
+    }
+
+    /**
+     * Returns the current number of queued asynchronous executions.
+     */
+    public final int queued() {
+        return queued.get();
+    }
+
+    /**
+     * Returns the number of accepted executions so far.
+     */
+    public final long accepted() {
+        return accepted.sum();
+    }
+
+    /**
+     * Returns the number of rejected executions so far.
+     */
+    public final long rejected() {
+        return rejected.sum();
+    }
+
+    @Override
+    public final String toString() {
+        return "Bulkhead{maxConcurrent=" + maxConcurrent + ", active=" + active() + ", peak=" + peak() +
+                ", queued=" + queued() + ", accepted=" + accepted() + ", rejected=" + rejected() + "}";
+    }
+}
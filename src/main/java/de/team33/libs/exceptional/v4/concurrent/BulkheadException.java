@@ -0,0 +1,25 @@
+package de.team33.libs.exceptional.v4.concurrent;
+
+/**
+ * An unchecked exception that signals that a {@link Bulkhead} rejected an execution because its maximum number of
+ * concurrent executions was reached.
+ * <p>
+ * A rejection is meant to be cheap: an instance is shared by all rejections of the same bulkhead, so it has no stack
+ * trace, no cause and no suppressed exceptions.
+ */
+public final class BulkheadException extends RuntimeException {
+
+    private final int maxConcurrent;
+
+    BulkheadException(final int maxConcurrent) {
+        super("bulkhead full: " + maxConcurrent + " concurrent execution(s)", null, false, false);
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * Returns the maximum number of concurrent executions of the rejecting bulkhead.
+     */
+    public final int maxConcurrent() {
+        return maxConcurrent;
+    }
+}
@@ -0,0 +1,24 @@
+package de.team33.libs.exceptional.v4.concurrent;
+
+/**
+ * Restores the original exceptions of asynchronous executions.
+ */
+final class Causes {
+
+    private Causes() {
+    }
+
+    /**
+     * Throws a given failure if it is unchecked, otherwise returns it as a checked exception of the expected type.
+     */
+    @SuppressWarnings("unchecked")
+    static <X extends Exception> X original(final Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        return (X) failure;
+    }
+}
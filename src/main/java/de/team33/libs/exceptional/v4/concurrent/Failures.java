@@ -0,0 +1,104 @@
+package de.team33.libs.exceptional.v4.concurrent;
+
+import de.team33.libs.exceptional.v4.ElementException;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A summary of the failures that occurred while processing the elements of a collection or an array, each of them
+ * associated with the position of the element that failed, in the order of the positions.
+ *
+ * @see Parallel
+ */
+public final class Failures {
+
+    private static final Failures NONE = new Failures(Collections.emptyList());
+
+    private final List<Failure> list;
+
+    private Failures(final List<Failure> list) {
+        this.list = Collections.unmodifiableList(list);
+    }
+
+    static Failures of(final List<Failure> list) {
+        return (null == list || list.isEmpty()) ? NONE : new Failures(list);
+    }
+
+    /**
+     * Determines whether no failure occurred at all.
+     */
+    public final boolean isEmpty() {
+        return list.isEmpty();
+    }
+
+    /**
+     * Returns the number of failures.
+     */
+    public final int size() {
+        return list.size();
+    }
+
+    /**
+     * Returns an unmodifiable list of all failures in the order of the positions of the failed elements.
+     */
+    public final List<Failure> list() {
+        return list;
+    }
+
+    /**
+     * Throws an {@link ElementException} for the first failure, if any, which carries {@link ElementException}s for
+     * all other failures as {@linkplain Throwable#getSuppressed() suppressed} exceptions.
+     */
+    public final void throwIfAny() {
+        if (!list.isEmpty()) {
+            final ElementException result = list.get(0).toException();
+            for (int index = 1; index < list.size(); ++index) {
+                result.addSuppressed(list.get(index).toException());
+            }
+            throw result;
+        }
+    }
+
+    @Override
+    public final String toString() {
+        return "Failures" + list;
+    }
+
+    /**
+     * A single failure: the position of the failed element and the original exception.
+     */
+    public static final class Failure {
+
+        private final int index;
+        private final Exception exception;
+
+        Failure(final int index, final Exception exception) {
+            this.index = index;
+            this.exception = exception;
+        }
+
+        /**
+         * Returns the position of the failed element.
+         */
+        public final int index() {
+            return index;
+        }
+
+        /**
+         * Returns the original exception.
+         */
+        public final Exception exception() {
+            return exception;
+        }
+
+        private ElementException toException() {
+            return new ElementException(index, exception);
+        }
+
+        @Override
+        public final String toString() {
+            return "#" + index + ": " + exception;
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package de.team33.libs.exceptional.v4.concurrent;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.functional.XSupplier;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decorates {@link XSupplier}s, e.g. calls to replicated remote services, with hedged execution: if an attempt has
+ * not completed within a threshold, another attempt is launched, the first successful attempt wins and the others
+ * are cancelled. The checked exception of a failed attempt is rethrown as is, but only if all launched attempts
+ * fail, in which case the failures of the other attempts are {@linkplain Throwable#addSuppressed(Throwable)
+ * suppressed} by the first one.
+ * <p>
+ * The threshold adapts to the observed latencies: it is a given percentile, by default the 95th, estimated by a
+ * {@link LatencyEstimator}. Each successful call contributes the latency of the winning attempt and, as a lower bound,
+ * the time the attempts still running at that point have taken so far. So attempts that are cut short still count
+ * and do not bias the estimation towards the fast ones. As long as too few latencies have been observed,
+ * an initial threshold applies. All suppliers decorated by the same instance share its estimation, so an instance
+ * should be used for a single kind of call. Example:
+ * <pre>
+ * final Hedging hedging = Hedging.using(executor).withInitialDelay(20, TimeUnit.MILLISECONDS);
+ * final XSupplier&lt;Quote, IOException&gt; quote = hedging.supplier(() -&gt; replicas.next().quote(symbol));
+ * </pre>
+ * The attempts are executed by a given {@link Executor}, the calling thread only waits for them. If the calling
+ * thread is interrupted while waiting, all attempts are cancelled and a {@link WrappedException} is thrown with the
+ * interrupt status set.
+ */
+public final class Hedging {
+
+    private static final int MIN_SAMPLES = 32;
+    private static final int REFRESH_INTERVAL = 16;
+    private static final long DECAY_INTERVAL = 4096;
+
+    private final Executor executor;
+    private final int maxAttempts;
+    private final double percentile;
+    private final long initialDelayNanos;
+    private final LatencyEstimator estimator = LatencyEstimator.withDecay(DECAY_INTERVAL);
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder hedged = new LongAdder();
+    private volatile long thresholdNanos;
+
+    private Hedging(final Executor executor, final int maxAttempts, final double percentile,
+                    final long initialDelayNanos) {
+        this.executor = executor;
+        this.maxAttempts = maxAttempts;
+        this.percentile = percentile;
+        this.initialDelayNanos = initialDelayNanos;
+        this.thresholdNanos = initialDelayNanos;
+    }
+
+    /**
+     * Returns a new instance that executes up to two attempts per call using a given {@link Executor}. The threshold
+     * is the 95th percentile of the observed latencies, initially 100 milliseconds.
+     */
+    public static Hedging using(final Executor executor) {
+        return new Hedging(requireNonNull(executor, "<executor> must not be null"), 2, 0.95,
+                           TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    /**
+     * Returns a new instance like this one that executes up to a given number of attempts per call. The new instance
+     * does not share its estimation with this one.
+     *
+     * @param maxAttempts The maximum number of attempts per call, at least {@code 1}.
+     */
+    public final Hedging withMaxAttempts(final int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("<maxAttempts> must be positive but was " + maxAttempts);
+        }
+        return new Hedging(executor, maxAttempts, percentile, initialDelayNanos);
+    }
+
+    /**
+     * Returns a new instance like this one whose threshold is a given percentile of the observed latencies. The new
+     * instance does not share its estimation with this one.
+     *
+     * @param percentile The percentile as a fraction, e.g. {@code 0.95}, greater than {@code 0} and at most
+     *                   {@code 1}.
+     */
+    public final Hedging withPercentile(final double percentile) {
+        if (!((0.0 < percentile) && (percentile <= 1.0))) {
+            throw new IllegalArgumentException("<percentile> must be in (0, 1] but was " + percentile);
+        }
+        return new Hedging(executor, maxAttempts, percentile, initialDelayNanos);
+    }
+
+    /**
+     * Returns a new instance like this one whose threshold is a given delay as long as too few latencies have been
+     * observed. The new instance does not share its estimation with this one.
+     *
+     * @param delay The initial threshold, at least {@code 0}.
+     * @param unit  The {@link TimeUnit} of the given delay.
+     */
+    public final Hedging withInitialDelay(final long delay, final TimeUnit unit) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("<delay> must not be negative but was " + delay);
+        }
+        return new Hedging(executor, maxAttempts, percentile, unit.toNanos(delay));
+    }
+
+    /**
+     * Decorates an {@link XSupplier} with hedged execution.
+     */
+    public final <R, X extends Exception> XSupplier<R, X> supplier(final XSupplier<R, X> xSupplier) {
+        requireNonNull(xSupplier, "<xSupplier> must not be null");
+        final Callable<R> attempt = xSupplier::get;
+        return () -> call(attempt);
+    }
+
+    private void recorded(final long nanos) {
+        estimator.record(nanos);
+        final long count = estimator.count();
+        if ((MIN_SAMPLES <= count) && (0 == count % REFRESH_INTERVAL)) {
+            thresholdNanos = estimator.percentile(percentile);
+        }
+    }
+
+    private <R, X extends Exception> R call(final Callable<R> attempt) throws X {
+        calls.increment();
+        final CompletionService<R> service = new ExecutorCompletionService<>(executor);
+        final List<Future<R>> attempts = new ArrayList<>(maxAttempts);
+        final long[] starts = new long[maxAttempts];
+        try {
+            starts[0] = System.nanoTime();
+            attempts.add(service.submit(attempt));
+            Throwable failure = null;
+            for (int running = 1; 0 < running; ) {
+                final Future<R> done = (attempts.size() < maxAttempts)
+                                       ? service.poll(thresholdNanos, TimeUnit.NANOSECONDS)
+                                       : service.take();
+                if (null == done) {
+                    hedged.increment();
+                    starts[attempts.size()] = System.nanoTime();
+                    attempts.add(service.submit(attempt));
+                    running += 1;
+                } else {
+                    running -= 1;
+                    try {
+                        final R result = done.get();
+                        recorded(attempts, starts, done);
+                        return result;
+                    } catch (final ExecutionException caught) {
+                        failure = merged(failure, caught.getCause());
+                    }
+                }
+            }
+            throw Causes.<X>original(failure);
+        } catch (final InterruptedException caught) {
+            Thread.currentThread().interrupt();
+            throw new WrappedException(caught);
+        } finally {
+            for (final Future<R> future : attempts) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private void recorded(final List<? extends Future<?>> attempts, final long[] starts, final Future<?> winner) {
+        final long now = System.nanoTime();
+        for (int index = 0; index < attempts.size(); ++index) {
+            final Future<?> future = attempts.get(index);
+            // the winner's latency is exact, the latency of an attempt still running is at least as long ...
+            if ((winner == future) || !future.isDone()) {
+                recorded(now - starts[index]);
+            }
+        }
+    }
+
+    private static Throwable merged(final Throwable primary, final Throwable failure) {
+        if (null == primary) {
+            return failure;
+        }
+        if (primary != failure) {
+            primary.addSuppressed(failure);
+        }
+        return primary;
+    }
+
+    /**
+     * Returns the current threshold in nanoseconds.
+     */
+    public final long thresholdNanos() {
+        return thresholdNanos;
+    }
+
+    /**
+     * Returns the {@link LatencyEstimator} of this instance.
+     */
+    public final LatencyEstimator estimator() {
+        return estimator;
+    }
+
+    /**
+     * Returns the number of calls so far.
+     */
+    public final long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * Returns the number of additional attempts launched so far.
+     */
+    public final long hedged() {
+        return hedged.sum();
+    }
+}
@@ -0,0 +1,119 @@
+package de.team33.libs.exceptional.v4.concurrent;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free estimator of latency percentiles, e.g. to adapt the delay of a {@link Hedging hedged} execution to
+ * the observed latencies.
+ * <p>
+ * The latencies are counted in a histogram with logarithmic buckets of eight sub-buckets per power of two, so an
+ * estimated percentile exceeds the exact one by less than 12.5 percent. Recording a latency increments some atomic
+ * counters without locking or allocating anything. To follow changing latencies, all counts are halved whenever a
+ * given number of latencies has been recorded since the last halving.
+ */
+public final class LatencyEstimator {
+
+    private static final int SUB_BITS = 3;
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS) * SUB_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong total = new AtomicLong(0);
+    private final AtomicLong recorded = new AtomicLong(0);
+    private final long decayInterval;
+
+    private LatencyEstimator(final long decayInterval) {
+        this.decayInterval = decayInterval;
+    }
+
+    /**
+     * Returns a new instance that halves its counts whenever a given number of latencies has been recorded since the
+     * last halving.
+     *
+     * @param decayInterval The number of recorded latencies between two halvings, at least {@code 1}.
+     */
+    public static LatencyEstimator withDecay(final long decayInterval) {
+        if (decayInterval < 1) {
+            throw new IllegalArgumentException("<decayInterval> must be positive but was " + decayInterval);
+        }
+        return new LatencyEstimator(decayInterval);
+    }
+
+    private static int index(final long nanos) {
+        if (nanos < SUB_COUNT) {
+            return (int) nanos;
+        }
+        final int shift = 63 - Long.numberOfLeadingZeros(nanos) - SUB_BITS;
+        return ((shift + 1) << SUB_BITS) + (int) ((nanos >>> shift) & (SUB_COUNT - 1));
+    }
+
+    private static long upperBound(final int index) {
+        if (index < SUB_COUNT) {
+            return index;
+        }
+        final int shift = (index >>> SUB_BITS) - 1;
+        final long mantissa = SUB_COUNT + (index & (SUB_COUNT - 1));
+        return ((mantissa + 1) << shift) - 1;
+    }
+
+    /**
+     * Records a given latency in nanoseconds. Negative values are recorded as {@code 0}.
+     */
+    public final void record(final long nanos) {
+        counts.incrementAndGet(index(Math.max(0, nanos)));
+        total.incrementAndGet();
+        if (0 == recorded.incrementAndGet() % decayInterval) {
+            decay();
+        }
+    }
+
+    private void decay() {
+        for (int index = 0; index < BUCKETS; ++index) {
+            long count = counts.get(index);
+            while ((0 < count) && !counts.compareAndSet(index, count, count >>> 1)) {
+                count = counts.get(index);
+            }
+            total.addAndGet((count >>> 1) - count);
+        }
+    }
+
+    /**
+     * Returns the current (possibly decayed) number of latencies the estimation is based on.
+     */
+    public final long count() {
+        return total.get();
+    }
+
+    /**
+     * Returns the estimated latency in nanoseconds that is not exceeded by a given fraction of the recorded
+     * latencies, or {@code -1} if no latency has been recorded.
+     * <p>
+     * The buckets are read without locking, so latencies that are recorded concurrently may or may not be
+     * considered.
+     *
+     * @param fraction The fraction, e.g. {@code 0.95} for the 95th percentile, greater than {@code 0} and at most
+     *                 {@code 1}.
+     */
+    public final long percentile(final double fraction) {
+        if (!((0.0 < fraction) && (fraction <= 1.0))) {
+            throw new IllegalArgumentException("<fraction> must be in (0, 1] but was " + fraction);
+        }
+        long sum = 0;
+        for (int index = 0; index < BUCKETS; ++index) {
+            sum += counts.get(index);
+        }
+        if (0 == sum) {
+            return -1;
+        }
+        final long rank = (long) Math.ceil(fraction * sum);
+        long seen = 0;
+        for (int index = 0; index < BUCKETS; ++index) {
+            seen += counts.get(index);
+            if (seen >= rank) {
+                return upperBound(index);
+            }
+        }
+        return upperBound(BUCKETS - 1);
+    }
+}
@@ -0,0 +1,142 @@
+package de.team33.libs.exceptional.v4.concurrent;
+
+import de.team33.libs.exceptional.v4.functional.XConsumer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+
+/**
+ * A utility to apply an {@link XConsumer} to all elements of a {@link Collection} or an array in parallel, processing
+ * every element regardless of failures and reporting all of them at the end.
+ * <p>
+ * The elements are split recursively across a {@link ForkJoinPool}, so idle workers steal pending parts of the work.
+ * Each leaf task gathers its failures in its own buffer, and the buffers are merged when the tasks are joined, so
+ * there is no shared lock or other point of contention. Example:
+ * <pre>
+ * final Failures failures = Parallel.forEach(records, record -&gt; store.save(record));
+ * failures.list().forEach(failure -&gt; LOG.warn("record #" + failure.index() + " failed", failure.exception()));
+ * </pre>
+ * Any {@link Exception} thrown by the consumer, checked or unchecked, is reported as a failure. {@link Error}s are
+ * not caught and are propagated to the caller.
+ */
+public final class Parallel {
+
+    private static final int MIN_LEAF_SIZE = 16;
+    private static final int LEAVES_PER_WORKER = 8;
+
+    private Parallel() {
+    }
+
+    /**
+     * Applies a given {@link XConsumer} to all elements of a given {@link Collection} using the
+     * {@linkplain ForkJoinPool#commonPool() common pool} and returns the failures, each of them associated with the
+     * position of the failed element in the iteration order of the collection.
+     */
+    public static <T> Failures forEach(final Collection<? extends T> elements,
+                                       final XConsumer<? super T, ?> consumer) {
+        return forEach(elements, consumer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies a given {@link XConsumer} to all elements of a given {@link Collection} using a given
+     * {@link ForkJoinPool} and returns the failures, each of them associated with the position of the failed element
+     * in the iteration order of the collection.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Failures forEach(final Collection<? extends T> elements,
+                                       final XConsumer<? super T, ?> consumer,
+                                       final ForkJoinPool pool) {
+        if ((elements instanceof List) && (elements instanceof RandomAccess)) {
+            final List<? extends T> list = (List<? extends T>) elements;
+            return forEach(list.size(), list::get, consumer, pool);
+        }
+        final Object[] array = elements.toArray();
+        return forEach(array.length, index -> (T) array[index], consumer, pool);
+    }
+
+    /**
+     * Applies a given {@link XConsumer} to all elements of a given array using the
+     * {@linkplain ForkJoinPool#commonPool() common pool} and returns the failures, each of them associated with the
+     * index of the failed element.
+     */
+    public static <T> Failures forEach(final T[] elements, final XConsumer<? super T, ?> consumer) {
+        return forEach(elements, consumer, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Applies a given {@link XConsumer} to all elements of a given array using a given {@link ForkJoinPool} and
+     * returns the failures, each of them associated with the index of the failed element.
+     */
+    public static <T> Failures forEach(final T[] elements, final XConsumer<? super T, ?> consumer,
+                                       final ForkJoinPool pool) {
+        return forEach(elements.length, index -> elements[index], consumer, pool);
+    }
+
+    private static <T> Failures forEach(final int size, final IntFunction<? extends T> elements,
+                                        final XConsumer<? super T, ?> consumer, final ForkJoinPool pool) {
+        final int leafSize = Math.max(MIN_LEAF_SIZE, size / (LEAVES_PER_WORKER * pool.getParallelism()));
+        return Failures.of(pool.invoke(new Task<>(elements, consumer, leafSize, 0, size)));
+    }
+
+    private static final class Task<T> extends RecursiveTask<List<Failures.Failure>> {
+
+        private final IntFunction<? extends T> elements;
+        private final XConsumer<? super T, ?> consumer;
+        private final int leafSize;
+        private final int from;
+        private final int to;
+
+        private Task(final IntFunction<? extends T> elements, final XConsumer<? super T, ?> consumer,
+                     final int leafSize, final int from, final int to) {
+            this.elements = elements;
+            this.consumer = consumer;
+            this.leafSize = leafSize;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected final List<Failures.Failure> compute() {
+            if (to - from <= leafSize) {
+                return leaf();
+            }
+            final int middle = (from + to) >>> 1;
+            final Task<T> right = new Task<>(elements, consumer, leafSize, middle, to);
+            right.fork();
+            final List<Failures.Failure> left = new Task<>(elements, consumer, leafSize, from, middle).compute();
+            return merged(left, right.join());
+        }
+
+        private List<Failures.Failure> leaf() {
+            // Most leaves will not fail at all, so the buffer is created lazily ...
+            List<Failures.Failure> result = null;
+            for (int index = from; index < to; ++index) {
+                try {
+                    consumer.accept(elements.apply(index));
+                } catch (final Exception caught) {
+                    if (null == result) {
+                        result = new ArrayList<>();
+                    }
+                    result.add(new Failures.Failure(index, caught));
+                }
+            }
+            return result;
+        }
+
+        private static List<Failures.Failure> merged(final List<Failures.Failure> left,
+                                                     final List<Failures.Failure> right) {
+            if (null == left) {
+                return right;
+            }
+            if (null != right) {
+                left.addAll(right);
+            }
+            return left;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * This package contains tools that apply the functional constructs of
+ * {@link de.team33.libs.exceptional.v4.functional} concurrently and deal with the checked exceptions that may occur.
+ */
+package de.team33.libs.exceptional.v4.concurrent;
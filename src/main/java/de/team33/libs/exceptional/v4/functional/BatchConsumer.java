@@ -0,0 +1,187 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.ElementException;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Applies an {@link XConsumer} that may throw a checked exception to all elements of an array or a {@link List}.
+ * <p>
+ * Other than a {@link Consumer} {@linkplain Converter#consumer(XConsumer) converted} per element, an instance
+ * processes the elements in chunks, each of them under a single exception boundary. So the loop over the elements of a
+ * chunk stays free of any exception handling and can be optimized as such.
+ * <p>
+ * If processing an element fails with a checked exception, it is wrapped as specified by the originating
+ * {@link Converter} and then wrapped again in an {@link ElementException} that refers to the index of the failed
+ * element. By default, this {@link ElementException} is thrown and processing stops. Optionally, it can be
+ * {@linkplain #resuming(Consumer) passed to a handler}, in which case processing resumes with the next element.
+ * Unchecked exceptions are passed through unchanged.
+ * <p>
+ * An instance is immutable and can be used concurrently if the underlying {@link XConsumer} can.
+ *
+ * @param <T> The element type.
+ * @see Converter#batchConsumer(XConsumer, int)
+ * @see Conversion#batchConsumer(XConsumer, int)
+ */
+public final class BatchConsumer<T> {
+
+    private final XConsumer<? super T, ?> xConsumer;
+    private final int chunkSize;
+    private final Wrapper wrapping;
+    private final Consumer<? super ElementException> onFailure;
+
+    BatchConsumer(final XConsumer<? super T, ?> xConsumer, final int chunkSize, final Wrapper wrapping,
+                  final Consumer<? super ElementException> onFailure) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("<chunkSize> must be positive but was " + chunkSize);
+        }
+        this.xConsumer = xConsumer;
+        this.chunkSize = chunkSize;
+        this.wrapping = wrapping;
+        this.onFailure = onFailure;
+    }
+
+    /**
+     * Returns a new instance that passes each {@link ElementException} to a given handler and then resumes with the
+     * next element rather than throwing it. The handler itself may throw an unchecked exception to stop processing.
+     */
+    public final BatchConsumer<T> resuming(final Consumer<? super ElementException> onFailure) {
+        return new BatchConsumer<>(xConsumer, chunkSize, wrapping,
+                                   requireNonNull(onFailure, "<onFailure> must not be null"));
+    }
+
+    /**
+     * Applies the underlying {@link XConsumer} to all elements of a given array.
+     *
+     * @throws ElementException if processing an element fails with a checked exception and this instance is not
+     *                          {@linkplain #resuming(Consumer) resuming}.
+     */
+    public final void accept(final T[] elements) {
+        accept(elements, 0);
+    }
+
+    /**
+     * Applies the underlying {@link XConsumer} to the elements of a given array, starting at a given index, e.g. to
+     * resume just after the {@linkplain ElementException#index() element that failed} in a previous call.
+     *
+     * @throws ElementException if processing an element fails with a checked exception and this instance is not
+     *                          {@linkplain #resuming(Consumer) resuming}.
+     */
+    public final void accept(final T[] elements, final int from) {
+        checkFrom(from, elements.length);
+        int index = from;
+        while (index < elements.length) {
+            index = chunk(elements, index, limit(index, elements.length));
+        }
+    }
+
+    /**
+     * Applies the underlying {@link XConsumer} to all elements of a given {@link List}.
+     *
+     * @throws ElementException if processing an element fails with a checked exception and this instance is not
+     *                          {@linkplain #resuming(Consumer) resuming}.
+     */
+    public final void accept(final List<? extends T> elements) {
+        accept(elements, 0);
+    }
+
+    /**
+     * Applies the underlying {@link XConsumer} to the elements of a given {@link List}, starting at a given index,
+     * e.g. to resume just after the {@linkplain ElementException#index() element that failed} in a previous call.
+     *
+     * @throws ElementException if processing an element fails with a checked exception and this instance is not
+     *                          {@linkplain #resuming(Consumer) resuming}.
+     */
+    public final void accept(final List<? extends T> elements, final int from) {
+        final int size = elements.size();
+        checkFrom(from, size);
+        int index = from;
+        if (elements instanceof RandomAccess) {
+            while (index < size) {
+                index = chunk(elements, index, limit(index, size));
+            }
+        } else {
+            final ListIterator<? extends T> iterator = elements.listIterator(from);
+            while (index < size) {
+                index = chunk(iterator, index, limit(index, size));
+            }
+        }
+    }
+
+    private static void checkFrom(final int from, final int size) {
+        if ((from < 0) || (from > size)) {
+            throw new IndexOutOfBoundsException("<from> must be within [0, " + size + "] but was " + from);
+        }
+    }
+
+    private int limit(final int index, final int size) {
+        return (size - index <= chunkSize) ? size : (index + chunkSize);
+    }
+
+    private int chunk(final T[] elements, final int from, final int to) {
+        int index = from;
+        try {
+            for (; index < to; ++index) {
+                xConsumer.accept(elements[index]);
+            }
+            return to;
+        } catch (final RuntimeException caught) {
+            throw caught;
+        } catch (final Exception caught) {
+            return failed(index, elements[index], caught);
+        }
+    }
+
+    private int chunk(final List<? extends T> elements, final int from, final int to) {
+        int index = from;
+        try {
+            for (; index < to; ++index) {
+                xConsumer.accept(elements.get(index));
+            }
+            return to;
+        } catch (final RuntimeException caught) {
+            throw caught;
+        } catch (final Exception caught) {
+            return failed(index, elements.get(index), caught);
+        }
+    }
+
+    private int chunk(final ListIterator<? extends T> iterator, final int from, final int to) {
+        int index = from;
+        T element = null;
+        try {
+            for (; index < to; ++index) {
+                element = iterator.next();
+                xConsumer.accept(element);
+            }
+            return to;
+        } catch (final RuntimeException caught) {
+            throw caught;
+        } catch (final Exception caught) {
+            return failed(index, element, caught);
+        }
+    }
+
+    private int failed(final int index, final T element, final Exception caught) {
+        final ElementException exception = new ElementException(index, wrapping.apply(caught, element, index));
+        if (null == onFailure) {
+            throw exception;
+        }
+        onFailure.accept(exception);
+        return index + 1;
+    }
+
+    /**
+     * Wraps the checked exception that occurred when processing an element, given the element and its index.
+     */
+    @FunctionalInterface
+    interface Wrapper {
+
+        Throwable apply(Throwable cause, Object element, int index);
+    }
+}
@@ -0,0 +1,138 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import java.util.Arrays;
+
+/**
+ * A tool to close several resources that may throw checked exceptions when closed.
+ * <p>
+ * Resources can be registered incrementally and will be closed in reverse order of their registration. All
+ * registered resources will be closed, even if some of them fail. The first failure will be thrown as the primary
+ * exception in its original type, any further failures will be {@linkplain Throwable#addSuppressed(Throwable)
+ * suppressed} by the primary one. Example:
+ * <pre>
+ * try (final Closer&lt;SQLException&gt; closer = Closer.create()) {
+ *     final Connection connection = closer.register(dataSource.getConnection(), Connection::close);
+ *     final Statement statement = closer.register(connection.createStatement(), Statement::close);
+ *     ...
+ * }
+ * </pre>
+ * Closing does not allocate anything as long as no failure occurs. After closing, an instance is empty and may be
+ * reused.
+ * <p>
+ * An instance is not thread-safe.
+ *
+ * @param <X> The type of checked exception that may occur when closing any of the registered resources.
+ */
+public final class Closer<X extends Exception> implements XAutoCloseable<X> {
+
+    private static final int DEFAULT_CAPACITY = 4;
+
+    // Only resources of type XAutoCloseable<? extends X> get registered ...
+    private XAutoCloseable<?>[] resources;
+    private int size = 0;
+
+    private Closer(final int capacity) {
+        this.resources = new XAutoCloseable<?>[capacity];
+    }
+
+    /**
+     * Returns a new, empty instance.
+     */
+    public static <X extends Exception> Closer<X> create() {
+        return new Closer<>(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Closes the given resources in reverse order. All resources will be closed, even if some of them fail.
+     *
+     * @throws X the first failure, if any, with further failures suppressed.
+     */
+    @SafeVarargs
+    public static <X extends Exception> void closeAll(final XAutoCloseable<? extends X>... resources) throws X {
+        Throwable primary = null;
+        for (int index = resources.length - 1; index >= 0; --index) {
+            primary = closed(resources[index], primary);
+        }
+        rethrow(primary);
+    }
+
+    private static Throwable closed(final XAutoCloseable<?> resource, final Throwable primary) {
+        try {
+            resource.close();
+            return primary;
+        } catch (final Throwable caught) {
+            return merged(primary, caught);
+        }
+    }
+
+    private static <X extends Exception> void rethrow(final Throwable primary) throws X {
+        if (null != primary) {
+            throw Closer.<X>rethrowable(primary);
+        }
+    }
+
+    private static Throwable merged(final Throwable primary, final Throwable caught) {
+        if (null == primary) {
+            return caught;
+        }
+        if (primary != caught) {
+            primary.addSuppressed(caught);
+        }
+        return primary;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X extends Exception> X rethrowable(final Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        // Any checked exception originates from a resource of type XAutoCloseable<? extends X> ...
+        return (X) failure;
+    }
+
+    /**
+     * Registers a given resource to be closed by this closer and returns the resource.
+     */
+    public final <R extends XAutoCloseable<? extends X>> R register(final R resource) {
+        if (size == resources.length) {
+            resources = Arrays.copyOf(resources, 2 * size);
+        }
+        resources[size++] = resource;
+        return resource;
+    }
+
+    /**
+     * Registers a given resource to be closed by this closer using a given close method and returns the resource.
+     */
+    public final <R> R register(final R resource, final XConsumer<? super R, ? extends X> closing) {
+        final XAutoCloseable<X> closeable = () -> closing.accept(resource);
+        register(closeable);
+        return resource;
+    }
+
+    /**
+     * Returns the number of currently registered resources.
+     */
+    public final int size() {
+        return size;
+    }
+
+    /**
+     * Closes all registered resources in reverse order of their registration and unregisters them.
+     * All resources will be closed, even if some of them fail.
+     *
+     * @throws X the first failure, if any, with further failures suppressed.
+     */
+    @Override
+    public final void close() throws X {
+        Throwable primary = null;
+        while (0 < size) {
+            primary = closed(resources[--size], primary);
+            resources[size] = null;
+        }
+        rethrow(primary);
+    }
+}
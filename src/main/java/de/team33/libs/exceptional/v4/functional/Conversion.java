@@ -89,4 +89,17 @@ public final class Conversion {
     public static <T, U, R> BiFunction<T, U, R> biFunction(final XBiFunction<T, U, R, ?> xBiFunction) {
         return CONVERTER.biFunction(xBiFunction);
     }
+
+    /**
+     * Wraps an {@link XConsumer} that may throw a checked exception as {@link BatchConsumer} that applies it to the
+     * elements of an array or a {@link java.util.List List} in chunks of a given size. When executed, it wraps any
+     * occurring checked exception as {@link WrappedException} and then as
+     * {@link de.team33.libs.exceptional.v4.ElementException ElementException} that refers to the index of the failed
+     * element.
+     *
+     * @param chunkSize The maximum number of elements to be processed under a single exception boundary.
+     */
+    public static <T> BatchConsumer<T> batchConsumer(final XConsumer<? super T, ?> xConsumer, final int chunkSize) {
+        return CONVERTER.batchConsumer(xConsumer, chunkSize);
+    }
 }
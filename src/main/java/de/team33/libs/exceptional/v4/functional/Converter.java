@@ -1,16 +1,23 @@
 package de.team33.libs.exceptional.v4.functional;
 
+import de.team33.libs.exceptional.v4.Context;
+import de.team33.libs.exceptional.v4.Contextual;
+import de.team33.libs.exceptional.v4.Translation;
 import de.team33.libs.exceptional.v4.WrappedException;
 import de.team33.libs.exceptional.v4.Wrapping;
 
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static java.util.Objects.requireNonNull;
+
 
 /**
  * A tool that can convert certain functional constructs that may throw checked exceptions (e.g. {@link XFunction})
@@ -20,10 +27,34 @@ import java.util.function.Supplier;
  */
 public final class Converter {
 
+    private static final int FULL_STACK = -1;
+    private static final Converter SNEAKY = new Converter(true, null, FULL_STACK, null, null);
+
+    private final boolean sneaky;
+    private final Function<Throwable, RuntimeException> baseWrapping;
+    private final int stackDepth;
+    private final Flooding flooding;
+    private final BiFunction<Object, Object, Context> context;
+    private final Flooding.Guard guard;
     private final Function<Throwable, RuntimeException> wrapping;
 
-    private Converter(final Function<Throwable, RuntimeException> wrapping) {
-        this.wrapping = wrapping;
+    private Converter(final boolean sneaky, final Function<Throwable, RuntimeException> baseWrapping,
+                      final int stackDepth, final Flooding flooding,
+                      final BiFunction<Object, Object, Context> context) {
+        this.sneaky = sneaky;
+        this.baseWrapping = baseWrapping;
+        this.stackDepth = stackDepth;
+        this.flooding = flooding;
+        this.context = context;
+        if (sneaky) {
+            this.guard = null;
+            this.wrapping = null;
+        } else {
+            final Function<Throwable, RuntimeException> sized =
+                    (FULL_STACK == stackDepth) ? baseWrapping : Wrapping.trimmed(stackDepth, baseWrapping);
+            this.guard = (null == flooding) ? null : flooding.wrapping(sized);
+            this.wrapping = (null == guard) ? sized : guard;
+        }
     }
 
     /**
@@ -33,9 +64,115 @@ public final class Converter {
      * @see Wrapping#normal(String, BiFunction)
      * @see Wrapping#varying(Function)
      * @see Wrapping#varying(String, Function)
+     * @see Wrapping#byType(Class)
+     * @see Translation
      */
     public static Converter using(final Function<Throwable, RuntimeException> wrapping) {
-        return new Converter(wrapping);
+        return new Converter(false, requireNonNull(wrapping, "<wrapping> must not be null"), FULL_STACK, null, null);
+    }
+
+    /**
+     * Returns an instance that does not wrap checked exceptions at all but passes them through unchanged, although
+     * the resulting functional constructs do not declare them. This avoids any allocation when a failure occurs.
+     * <p>
+     * Use it only where the calling code expects the checked exceptions anyway and restore their declaration at the
+     * boundary using {@link Sneaky#declare(Class, Supplier)}. Stack depths, flood limits and contexts do not apply to
+     * such an instance.
+     *
+     * @see Sneaky
+     */
+    public static Converter sneaky() {
+        return SNEAKY;
+    }
+
+    /**
+     * Returns a new instance that uses the same wrapping method as this one but retains only the top {@code depth}
+     * stack frames of the calling code in the resulting unchecked exceptions. The frames of this library, e.g. of the
+     * converted functional constructs, are skipped.
+     * <p>
+     * Such exceptions are considerably cheaper to log, print or serialize. {@link WrappedException}s are also cheaper
+     * to create, because their full stack trace is not captured. Other types still capture it on construction.
+     *
+     * @param depth The maximum number of stack frames to be retained, at least {@code 0}.
+     * @see Wrapping#trimmed(int, Function)
+     */
+    public final Converter withStackDepth(final int depth) {
+        if (depth < 0) {
+            throw new IllegalArgumentException("<depth> must not be negative but was " + depth);
+        }
+        return new Converter(sneaky, baseWrapping, depth, flooding, context);
+    }
+
+    /**
+     * Returns a new instance that uses the same wrapping method as this one and retains the full stack traces in the
+     * resulting unchecked exceptions.
+     */
+    public final Converter withFullStack() {
+        return new Converter(sneaky, baseWrapping, FULL_STACK, flooding, context);
+    }
+
+    /**
+     * Returns a new instance that uses the same wrapping method as this one as long as the rate of failures with the
+     * same type of cause does not exceed a given limit per interval. Above that limit, each failure results in a
+     * shared, stackless exception per cause type rather than in a newly created exception, which relieves the
+     * garbage collector when failures occur at high rates, e.g. during an outage.
+     * <p>
+     * The shared exception is created once per flood by the same wrapping method, so it is of the same type as
+     * usual, but its cause is the first cause of the flood. It carries a {@link FloodException} as its only
+     * suppressed exception, which counts the failures and refers to the latest cause, see
+     * {@link FloodException#of(Throwable)}. No {@link Context} is attached to it. Since it is shared, it should not be
+     * modified otherwise, e.g. by adding further suppressed exceptions.
+     * <p>
+     * During a flood, every failure with the same type of cause results in the shared exception, also in
+     * subsequent intervals. A flood ends, i.e. the normal wrapping method applies again, as soon as the failures with
+     * the same type of cause within an interval do not exceed the limit.
+     *
+     * @param limit    The maximum number of failures per cause type and interval that are wrapped normally, at least
+     *                 {@code 0}.
+     * @param interval The interval to which the limit refers, at least one millisecond.
+     * @param unit     The {@link TimeUnit} of the given interval.
+     */
+    public final Converter withFloodLimit(final int limit, final long interval, final TimeUnit unit) {
+        return withFloodLimit(limit, interval, unit, System::currentTimeMillis);
+    }
+
+    /**
+     * Returns a new instance like {@link #withFloodLimit(int, long, TimeUnit)} that uses a given clock.
+     *
+     * @param clock A {@link LongSupplier} that returns the current time in milliseconds.
+     */
+    public final Converter withFloodLimit(final int limit, final long interval, final TimeUnit unit,
+                                          final LongSupplier clock) {
+        return new Converter(sneaky, baseWrapping, stackDepth, new Flooding(limit, unit.toMillis(interval), clock),
+                             context);
+    }
+
+    /**
+     * Returns a new instance that uses the same wrapping method as this one for any failure, regardless of the
+     * failure rate.
+     */
+    public final Converter withoutFloodLimit() {
+        return new Converter(sneaky, baseWrapping, stackDepth, null, context);
+    }
+
+    /**
+     * Returns a new instance that uses the same wrapping method as this one and attaches a {@link Context} to each
+     * resulting unchecked exception that is {@link Contextual}, e.g. a {@link WrappedException}. The context is
+     * determined by a given function from the arguments of the failed call, only when a failure occurs.
+     * <p>
+     * The function gets the first and the second argument of the failed call, if any, or {@code null} otherwise. The
+     * values of the resulting context may be given as {@link Supplier}s to defer their evaluation until the context
+     * is actually read or rendered. Example:
+     * <pre>
+     * Converter.using(WrappedException::new)
+     *          .withContext((t, u) -&gt; Context.of("item", t).with("request", REQUEST_ID::get));
+     * </pre>
+     *
+     * @param context A {@link BiFunction} that determines the context from the arguments of a failed call.
+     */
+    public final Converter withContext(final BiFunction<Object, Object, Context> context) {
+        return new Converter(sneaky, baseWrapping, stackDepth, flooding,
+                             requireNonNull(context, "<context> must not be null"));
     }
 
     /**
@@ -93,13 +230,31 @@ public final class Converter {
         return (t, u) -> xFunction.apply(t);
     }
 
+    private RuntimeException attached(final RuntimeException exception, final Object t, final Object u) {
+        if ((null != context) && (exception instanceof Contextual) && !isShared(exception)) {
+            ((Contextual) exception).with(context.apply(t, u));
+        }
+        return exception;
+    }
+
+    private boolean isShared(final RuntimeException exception) {
+        return (null != guard) && guard.isShared(exception);
+    }
+
+    private RuntimeException wrapped(final Throwable caught) {
+        return Events.wrapped(caught, wrapping);
+    }
+
     private <T, U, R> R call(final XBiFunction<T, U, R, ?> xBiFunction, final T t, final U u) {
         try {
             return xBiFunction.apply(t, u);
         } catch (final RuntimeException caught) {
             throw caught;
         } catch (final Exception caught) {
-            throw wrapping.apply(caught);
+            if (sneaky) {
+                throw Sneaky.rethrow(caught);
+            }
+            throw attached(wrapped(caught), t, u);
         }
     }
 
@@ -173,4 +328,22 @@ public final class Converter {
     public final <T, U, R> BiFunction<T, U, R> biFunction(final XBiFunction<T, U, R, ?> xBiFunction) {
         return (t, u) -> call(xBiFunction, t, u);
     }
+
+    /**
+     * Wraps an {@link XConsumer} that may throw a checked exception as {@link BatchConsumer} that applies it to the
+     * elements of an array or a {@link java.util.List List} in chunks of a given size, each of them under a single
+     * exception boundary. When executed, it wraps any occurring checked exception as a specific unchecked exception
+     * and then as {@link de.team33.libs.exceptional.v4.ElementException ElementException} that refers to the index of
+     * the failed element. A {@linkplain #withContext(BiFunction) context} is determined from the failed element and
+     * its index. A {@linkplain #sneaky() sneaky} instance uses the checked exception itself as cause of the
+     * {@link de.team33.libs.exceptional.v4.ElementException ElementException}.
+     *
+     * @param chunkSize The maximum number of elements to be processed under a single exception boundary.
+     */
+    public final <T> BatchConsumer<T> batchConsumer(final XConsumer<? super T, ?> xConsumer, final int chunkSize) {
+        final BatchConsumer.Wrapper wrapper = sneaky
+                                              ? (cause, element, index) -> cause
+                                              : (cause, element, index) -> attached(wrapped(cause), element, index);
+        return new BatchConsumer<>(xConsumer, chunkSize, wrapper, null);
+    }
 }
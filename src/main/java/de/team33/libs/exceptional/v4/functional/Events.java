@@ -0,0 +1,22 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import java.util.function.Function;
+
+/**
+ * Hooks to record events of this package, e.g. for the JDK Flight Recorder.
+ * <p>
+ * This is the Java 8 implementation, which does not record anything. Java 11 and newer use a variant from the
+ * versioned section of the multi-release JAR that records JFR events.
+ */
+final class Events {
+
+    private Events() {
+    }
+
+    /**
+     * Applies a given wrapping method to a given cause and records it.
+     */
+    static RuntimeException wrapped(final Throwable cause, final Function<Throwable, RuntimeException> wrapping) {
+        return wrapping.apply(cause);
+    }
+}
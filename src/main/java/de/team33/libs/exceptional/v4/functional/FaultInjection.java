@@ -0,0 +1,175 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongPredicate;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Decorates functional constructs that may throw checked exceptions (e.g. {@link XFunction}) so that they fail
+ * predictably, e.g. to test or benchmark code under controlled failure rates.
+ * <p>
+ * The calls of all constructs decorated by the same instance are numbered consecutively, starting with {@code 0}.
+ * Whether a call fails is determined by its number only: either by a given schedule or by a given rate and seed. So
+ * the same sequence of calls fails in the same way every time, even if the calls are made concurrently. A failing
+ * call throws an exception provided by a given {@link Supplier} instead of calling the decorated construct.
+ * Optionally, each call is delayed by a given latency. Example:
+ * <pre>
+ * final FaultInjection&lt;IOException&gt; faults = FaultInjection.of(() -&gt; new IOException("injected"))
+ *                                                      .withRate(0.1, 278);
+ * final XFunction&lt;Path, byte[], IOException&gt; reading = faults.function(Files::readAllBytes);
+ * </pre>
+ *
+ * @param <X> The type of the injected exceptions.
+ */
+public final class FaultInjection<X extends Exception> {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private final Supplier<? extends X> failure;
+    private final LongPredicate schedule;
+    private final long latencyNanos;
+    private final AtomicLong calls = new AtomicLong(0);
+    private final AtomicLong injected = new AtomicLong(0);
+
+    private FaultInjection(final Supplier<? extends X> failure, final LongPredicate schedule,
+                           final long latencyNanos) {
+        this.failure = failure;
+        this.schedule = schedule;
+        this.latencyNanos = latencyNanos;
+    }
+
+    /**
+     * Returns a new instance that injects exceptions provided by a given {@link Supplier}. Initially, no call fails
+     * and no latency is injected.
+     */
+    public static <X extends Exception> FaultInjection<X> of(final Supplier<? extends X> failure) {
+        return new FaultInjection<>(requireNonNull(failure, "<failure> must not be null"), call -> false, 0);
+    }
+
+    /**
+     * Returns a new instance like this one whose calls fail according to a given schedule, a {@link LongPredicate}
+     * that is applied to the number of each call. The numbering of the new instance starts again with {@code 0}.
+     * Example:
+     * <pre>
+     * faults.withSchedule(call -&gt; 3 == call % 10)
+     * </pre>
+     */
+    public final FaultInjection<X> withSchedule(final LongPredicate schedule) {
+        return new FaultInjection<>(failure, requireNonNull(schedule, "<schedule> must not be null"), latencyNanos);
+    }
+
+    /**
+     * Returns a new instance like this one whose calls fail at a given rate, pseudo-randomly determined from a given
+     * seed and the number of each call. The numbering of the new instance starts again with {@code 0}.
+     *
+     * @param rate The failure rate, at least {@code 0} and at most {@code 1}.
+     * @param seed The seed of the pseudo-random schedule.
+     */
+    public final FaultInjection<X> withRate(final double rate, final long seed) {
+        if (!((0.0 <= rate) && (rate <= 1.0))) {
+            throw new IllegalArgumentException("<rate> must be in [0, 1] but was " + rate);
+        }
+        return withSchedule(call -> (mix(seed + (call + 1) * GOLDEN_GAMMA) >>> 11) * DOUBLE_UNIT < rate);
+    }
+
+    /**
+     * Returns a new instance like this one that delays each call by a given latency. The numbering of the new
+     * instance starts again with {@code 0}.
+     *
+     * @param latency The latency, at least {@code 0}.
+     * @param unit    The {@link TimeUnit} of the given latency.
+     */
+    public final FaultInjection<X> withLatency(final long latency, final TimeUnit unit) {
+        if (latency < 0) {
+            throw new IllegalArgumentException("<latency> must not be negative but was " + latency);
+        }
+        return new FaultInjection<>(failure, schedule, unit.toNanos(latency));
+    }
+
+    private static long mix(final long value) {
+        final long z1 = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        final long z2 = (z1 ^ (z1 >>> 27)) * 0x94d049bb133111ebL;
+        return z2 ^ (z2 >>> 31);
+    }
+
+    private void next() throws X {
+        final long call = calls.getAndIncrement();
+        if (0 < latencyNanos) {
+            delay();
+        }
+        if (schedule.test(call)) {
+            injected.incrementAndGet();
+            throw failure.get();
+        }
+    }
+
+    private void delay() {
+        final long deadline = System.nanoTime() + latencyNanos;
+        for (long remaining = latencyNanos; 0 < remaining; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(this, remaining);
+        }
+    }
+
+    /**
+     * Decorates an {@link XRunnable} with the fault injection of this instance.
+     */
+    public final XRunnable<X> runnable(final XRunnable<? extends X> xRunnable) {
+        requireNonNull(xRunnable, "<xRunnable> must not be null");
+        return () -> {
+            next();
+            xRunnable.run();
+        };
+    }
+
+    /**
+     * Decorates an {@link XConsumer} with the fault injection of this instance.
+     */
+    public final <T> XConsumer<T, X> consumer(final XConsumer<T, ? extends X> xConsumer) {
+        requireNonNull(xConsumer, "<xConsumer> must not be null");
+        return t -> {
+            next();
+            xConsumer.accept(t);
+        };
+    }
+
+    /**
+     * Decorates an {@link XSupplier} with the fault injection of this instance.
+     */
+    public final <R> XSupplier<R, X> supplier(final XSupplier<R, ? extends X> xSupplier) {
+        requireNonNull(xSupplier, "<xSupplier> must not be null");
+        return () -> {
+            next();
+            return xSupplier.get();
+        };
+    }
+
+    /**
+     * Decorates an {@link XFunction} with the fault injection of this instance.
+     */
+    public final <T, R> XFunction<T, R, X> function(final XFunction<T, R, ? extends X> xFunction) {
+        requireNonNull(xFunction, "<xFunction> must not be null");
+        return t -> {
+            next();
+            return xFunction.apply(t);
+        };
+    }
+
+    /**
+     * Returns the number of calls so far.
+     */
+    public final long calls() {
+        return calls.get();
+    }
+
+    /**
+     * Returns the number of injected failures so far.
+     */
+    public final long injected() {
+        return injected.get();
+    }
+}
@@ -0,0 +1,86 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Describes a flood of failures with the same type of cause. During a flood, a {@link Converter}
+ * {@linkplain Converter#withFloodLimit(int, long, java.util.concurrent.TimeUnit) in flood mode} throws a shared,
+ * stackless exception of the configured type instead of a newly created one, and an instance of this type is the
+ * only {@linkplain Throwable#getSuppressed() suppressed} exception of that shared exception. Example:
+ * <pre>
+ * } catch (final IllegalStateException caught) {
+ *     FloodException.of(caught).ifPresent(flood -&gt; LOG.warning(flood.getMessage()));
+ * }
+ * </pre>
+ * An instance is shared by all failures of a flood, so it has no stack trace and no suppressed exceptions. Its
+ * {@linkplain #getCause() cause} is the first cause of the flood. In addition, it counts the failures it stands for
+ * and refers to the latest cause.
+ */
+public final class FloodException extends RuntimeException {
+
+    private final Class<? extends Throwable> causeType;
+    private final AtomicLong count = new AtomicLong(0);
+    private volatile Throwable latestCause;
+
+    FloodException(final Throwable firstCause) {
+        super(null, firstCause, false, false);
+        this.causeType = firstCause.getClass();
+        this.latestCause = firstCause;
+    }
+
+    /**
+     * Returns the {@link FloodException} that describes the flood for which a given exception is shared, if any.
+     */
+    public static Optional<FloodException> of(final Throwable exception) {
+        for (final Throwable suppressed : exception.getSuppressed()) {
+            if (suppressed instanceof FloodException) {
+                return Optional.of((FloodException) suppressed);
+            }
+        }
+        return Optional.empty();
+    }
+
+    final FloodException occurred(final Throwable cause) {
+        latestCause = cause;
+        count.incrementAndGet();
+        return this;
+    }
+
+    /**
+     * Returns the type of the causes of the flood.
+     */
+    public final Class<? extends Throwable> causeType() {
+        return causeType;
+    }
+
+    /**
+     * Returns the number of failures this instance stands for so far.
+     */
+    public final long count() {
+        return count.get();
+    }
+
+    /**
+     * Returns the first cause of the flood, the same as {@link #getCause()}.
+     */
+    public final Throwable firstCause() {
+        return getCause();
+    }
+
+    /**
+     * Returns the latest cause of the flood so far.
+     */
+    public final Throwable latestCause() {
+        return latestCause;
+    }
+
+    /**
+     * Returns a message that is composed from the current state of this instance.
+     */
+    @Override
+    public final String getMessage() {
+        return "flood of " + causeType.getName() + ": " + count() + " occurrence(s), latest: " +
+                latestCause.getMessage();
+    }
+}
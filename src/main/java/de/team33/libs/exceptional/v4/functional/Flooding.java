@@ -0,0 +1,134 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.Wrapping;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * The configuration of the flood mode of a {@link Converter}.
+ * <p>
+ * The failure rate is tracked per cause type in fixed windows of a given interval. Once the limit is exceeded within
+ * a window, all further failures of that type result in the same stackless exception, also in subsequent windows,
+ * until a window ends that did not exceed the limit. That shared exception is created by the configured wrapping
+ * method and carries a {@link FloodException} as its only suppressed exception. The tracking is lock-free and, under
+ * concurrent access, approximate at the window boundaries.
+ */
+final class Flooding {
+
+    private final int limit;
+    private final long interval;
+    private final LongSupplier clock;
+
+    Flooding(final int limit, final long interval, final LongSupplier clock) {
+        if (limit < 0) {
+            throw new IllegalArgumentException("<limit> must not be negative but was " + limit);
+        }
+        if (interval < 1) {
+            throw new IllegalArgumentException("<interval> must be at least one millisecond but was " + interval);
+        }
+        this.limit = limit;
+        this.interval = interval;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a new wrapping method with its own state that applies a given wrapping method as long as the failure
+     * rate per cause type does not exceed the limit and results in a shared exception otherwise.
+     */
+    final Guard wrapping(final Function<Throwable, RuntimeException> wrapping) {
+        return new Guard(wrapping);
+    }
+
+    final class Guard implements Function<Throwable, RuntimeException> {
+
+        private final Function<Throwable, RuntimeException> wrapping;
+        private final Function<Throwable, RuntimeException> sharing;
+        private final ClassValue<Window> windows = new ClassValue<Window>() {
+            @Override
+            protected Window computeValue(final Class<?> type) {
+                return new Window(clock.getAsLong());
+            }
+        };
+
+        private Guard(final Function<Throwable, RuntimeException> wrapping) {
+            this.wrapping = wrapping;
+            this.sharing = Wrapping.trimmed(0, wrapping);
+        }
+
+        @Override
+        public final RuntimeException apply(final Throwable cause) {
+            final Window window = windows.get(cause.getClass());
+            window.roll(clock.getAsLong());
+            final long count = window.count.incrementAndGet();
+            if ((null == window.flood.get()) && (count <= limit)) {
+                return wrapping.apply(cause);
+            }
+            return window.flood(cause);
+        }
+
+        /**
+         * Determines whether a given exception is shared by the failures of a flood, i.e. must not be modified.
+         */
+        final boolean isShared(final RuntimeException exception) {
+            final Throwable cause = exception.getCause();
+            if (null == cause) {
+                return false;
+            }
+            final Flood flood = windows.get(cause.getClass()).flood.get();
+            return (null != flood) && (flood.shared == exception);
+        }
+
+        private final class Window {
+
+            private final AtomicLong start;
+            private final AtomicLong count = new AtomicLong(0);
+            private final AtomicReference<Flood> flood = new AtomicReference<>();
+
+            private Window(final long start) {
+                this.start = new AtomicLong(start);
+            }
+
+            private void roll(final long now) {
+                final long current = start.get();
+                if ((now - current >= interval) && start.compareAndSet(current, now)) {
+                    // A window that did not exceed the limit ends a flood ...
+                    if (count.getAndSet(0) <= limit) {
+                        flood.set(null);
+                    }
+                }
+            }
+
+            private RuntimeException flood(final Throwable cause) {
+                for (Flood current = flood.get(); ; current = flood.get()) {
+                    if (null != current) {
+                        return current.occurred(cause);
+                    }
+                    final Flood created = new Flood(sharing.apply(cause), new FloodException(cause));
+                    if (flood.compareAndSet(null, created)) {
+                        return created.occurred(cause);
+                    }
+                }
+            }
+        }
+    }
+
+    private static final class Flood {
+
+        private final RuntimeException shared;
+        private final FloodException record;
+
+        private Flood(final RuntimeException shared, final FloodException record) {
+            shared.addSuppressed(record);
+            this.shared = shared;
+            this.record = record;
+        }
+
+        private RuntimeException occurred(final Throwable cause) {
+            record.occurred(cause);
+            return shared;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A utility to pass checked exceptions unchanged through code that does not declare them, e.g. through the common
+ * functional interfaces, and to restore their declaration at a boundary where they are handled anyway.
+ * <p>
+ * Unlike wrapping, this does not allocate anything when a failure occurs. It should be limited to code paths where
+ * the caller actually expects the checked exceptions, because the compiler does not enforce their handling in
+ * between. Example:
+ * <pre>
+ * final Function&lt;Path, byte[]&gt; reading = Converter.sneaky().function(Files::readAllBytes);
+ * final List&lt;byte[]&gt; contents = Sneaky.declare(IOException.class, () -&gt; paths.stream()
+ *                                                                         .map(reading)
+ *                                                                         .collect(toList()));
+ * </pre>
+ *
+ * @see Converter#sneaky()
+ */
+public final class Sneaky {
+
+    private Sneaky() {
+    }
+
+    /**
+     * Throws a given exception as is, even if it is a checked exception that is not declared by the calling code.
+     * The return type allows for the idiom {@code throw Sneaky.rethrow(caught);}, the method never actually returns.
+     */
+    public static RuntimeException rethrow(final Throwable exception) {
+        throw Sneaky.<RuntimeException>cast(requireNonNull(exception, "<exception> must not be null"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <X extends Throwable> X cast(final Throwable exception) throws X {
+        throw (X) exception;
+    }
+
+    /**
+     * Executes a given {@link Supplier} and returns its result, declaring that it may throw a checked exception of a
+     * given type, e.g. one that was passed through it {@linkplain #rethrow(Throwable) unchanged}.
+     *
+     * @param xClass The type of checked exception that may be thrown by the supplier.
+     * @throws X if so.
+     */
+    public static <R, X extends Exception> R declare(final Class<X> xClass, final Supplier<R> supplier) throws X {
+        return supplier.get();
+    }
+
+    /**
+     * Executes a given {@link Runnable}, declaring that it may throw a checked exception of a given type, e.g. one
+     * that was passed through it {@linkplain #rethrow(Throwable) unchanged}.
+     *
+     * @param xClass The type of checked exception that may be thrown by the runnable.
+     * @throws X if so.
+     */
+    public static <X extends Exception> void declare(final Class<X> xClass, final Runnable runnable) throws X {
+        runnable.run();
+    }
+}
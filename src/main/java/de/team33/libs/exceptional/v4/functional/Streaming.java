@@ -0,0 +1,81 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+
+import java.util.Spliterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A utility that turns {@link XIterator}s into {@link Spliterator}s or {@link Stream}s, e.g. to lazily process
+ * records of an I/O-backed source.
+ * <p>
+ * The resulting {@link Spliterator}s support splitting by handing out batches of elements, so the elements can be
+ * processed in parallel while the underlying iterator is read sequentially.
+ */
+public final class Streaming {
+
+    private Streaming() {
+    }
+
+    /**
+     * Returns a {@link Spliterator} based on a given {@link XIterator}. Any checked exception that occurs while
+     * iterating will be wrapped in a {@link WrappedException}.
+     */
+    public static <T> Spliterator<T> spliterator(final XIterator<? extends T, ?> iterator) {
+        return new XIteratorSpliterator<>(iterator);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} based on a given {@link XIterator} that performs a given close operation
+     * when {@linkplain Stream#close() closed}. Any checked exception that occurs while iterating or closing will be
+     * wrapped in a {@link WrappedException}.
+     *
+     * @see #apply(XIterator, XRunnable, Function)
+     */
+    public static <T> Stream<T> stream(final XIterator<? extends T, ?> iterator, final XRunnable<?> onClose) {
+        return stream(new XIteratorSpliterator<>(iterator), onClose);
+    }
+
+    private static <T> Stream<T> stream(final XIteratorSpliterator<T> spliterator, final XRunnable<?> onClose) {
+        return StreamSupport.stream(spliterator, false)
+                            .onClose(() -> close(spliterator, onClose));
+    }
+
+    private static void close(final Object origin, final XRunnable<?> onClose) {
+        try {
+            onClose.run();
+        } catch (final RuntimeException caught) {
+            throw caught;
+        } catch (final Exception caught) {
+            throw new Tunnel(origin, caught);
+        }
+    }
+
+    /**
+     * Applies a given terminal {@link Function} to a {@link Stream} based on a given {@link XIterator} and returns its
+     * result. The stream is closed promptly afterwards, which will perform the given close operation.
+     * <p>
+     * Any checked exception that occurs while iterating or closing will be thrown as is, i.e. as its original type.
+     *
+     * @param iterator The {@link XIterator} providing the elements of the stream.
+     * @param onClose  The operation to be performed when the stream is closed, e.g. closing an underlying resource.
+     * @param terminal A {@link Function} that processes the stream and returns a result.
+     * @param <T>      The element type.
+     * @param <R>      The result type.
+     * @param <X>      The type of checked exception that may occur while iterating or closing.
+     * @throws X if so.
+     */
+    public static <T, R, X extends Exception> R apply(final XIterator<? extends T, X> iterator,
+                                                      final XRunnable<? extends X> onClose,
+                                                      final Function<? super Stream<T>, ? extends R> terminal)
+            throws X {
+        final XIteratorSpliterator<T> spliterator = new XIteratorSpliterator<>(iterator);
+        try (final Stream<T> stream = stream(spliterator, onClose)) {
+            return terminal.apply(stream);
+        } catch (final Tunnel caught) {
+            throw caught.<X>causeFrom(spliterator);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+
+/**
+ * A {@link WrappedException} that transports a checked exception from a certain origin through code that does not
+ * allow checked exceptions, so that it can be restored as its original type by the same origin.
+ */
+final class Tunnel extends WrappedException {
+
+    private final transient Object origin;
+
+    Tunnel(final Object origin, final Throwable cause) {
+        super(cause);
+        this.origin = origin;
+    }
+
+    /**
+     * Returns the cause of this tunnel if it originates from the given origin, otherwise throws this tunnel.
+     */
+    @SuppressWarnings("unchecked")
+    final <X extends Exception> X causeFrom(final Object origin) {
+        if (this.origin == origin) {
+            return (X) getCause();
+        }
+        throw this;
+    }
+}
@@ -0,0 +1,20 @@
+package de.team33.libs.exceptional.v4.functional;
+
+/**
+ * A kind of {@link AutoCloseable} that allows to throw a specific checked exception.
+ *
+ * @see AutoCloseable
+ * @see Closer
+ */
+@FunctionalInterface
+public interface XAutoCloseable<X extends Exception> extends AutoCloseable {
+
+    /**
+     * Closes this resource.
+     *
+     * @throws X if so.
+     * @see AutoCloseable#close()
+     */
+    @Override
+    void close() throws X;
+}
@@ -1,5 +1,7 @@
 package de.team33.libs.exceptional.v4.functional;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A kind of function that allows to throw a checked exception.
  *
@@ -15,4 +17,17 @@ public interface XBiFunction<T, U, R, X extends Exception> {
      * @see java.util.function.BiFunction#apply(Object, Object)
      */
     R apply(T t, U u) throws X;
+
+    /**
+     * Returns a composed function that first applies this function to its input and then applies the {@code after}
+     * function to the result. Both functions may throw the same type of checked exception, which is passed through
+     * as is, so the composition has a single exception boundary when it is finally
+     * {@linkplain Converter#biFunction(XBiFunction) converted}.
+     *
+     * @see java.util.function.BiFunction#andThen(java.util.function.Function)
+     */
+    default <V> XBiFunction<T, U, V, X> andThen(final XFunction<? super R, ? extends V, ? extends X> after) {
+        requireNonNull(after);
+        return (t, u) -> after.apply(apply(t, u));
+    }
 }
@@ -0,0 +1,10 @@
+package de.team33.libs.exceptional.v4.functional;
+
+/**
+ * A kind of binary operator that allows to throw a checked exception.
+ *
+ * @see java.util.function.BinaryOperator
+ */
+@FunctionalInterface
+public interface XBinaryOperator<T, X extends Exception> extends XBiFunction<T, T, T, X> {
+}
@@ -0,0 +1,119 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+
+import java.util.Set;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * A kind of {@link Collector} whose supplier, accumulator, combiner and finisher allow to throw a checked exception.
+ * <p>
+ * An instance {@linkplain #collect(Stream) collects} the elements of a {@link Stream} - sequential or parallel -
+ * under a single exception boundary: any checked exception that occurs while collecting is tunneled through the
+ * stream and thrown as is, i.e. as its original type, when the stream has been left.
+ * <p>
+ * Instances are immutable and may be used concurrently.
+ *
+ * @param <T> The type of input elements.
+ * @param <A> The mutable accumulation type.
+ * @param <R> The result type.
+ * @param <X> The type of checked exception that may occur while collecting.
+ * @see XCollectors
+ */
+public final class XCollector<T, A, R, X extends Exception> {
+
+    final XSupplier<A, ? extends X> supplier;
+    final XBiConsumer<A, ? super T, ? extends X> accumulator;
+    final XBinaryOperator<A, ? extends X> combiner;
+    final XFunction<A, R, ? extends X> finisher;
+    private final Collector<T, A, R> collector;
+
+    XCollector(final XSupplier<A, ? extends X> supplier,
+               final XBiConsumer<A, ? super T, ? extends X> accumulator,
+               final XBinaryOperator<A, ? extends X> combiner,
+               final XFunction<A, R, ? extends X> finisher,
+               final Collector.Characteristics... characteristics) {
+        this.supplier = supplier;
+        this.accumulator = accumulator;
+        this.combiner = combiner;
+        this.finisher = finisher;
+        this.collector = Collector.of(this::supply, this::accumulate, this::combine, this::finish, characteristics);
+    }
+
+    private A supply() {
+        try {
+            return supplier.get();
+        } catch (final RuntimeException caught) {
+            throw caught;
+        } catch (final Exception caught) {
+            throw new Tunnel(this, caught);
+        }
+    }
+
+    private void accumulate(final A container, final T element) {
+        try {
+            accumulator.accept(container, element);
+        } catch (final RuntimeException caught) {
+            throw caught;
+        } catch (final Exception caught) {
+            throw new Tunnel(this, caught);
+        }
+    }
+
+    private A combine(final A left, final A right) {
+        try {
+            return combiner.apply(left, right);
+        } catch (final RuntimeException caught) {
+            throw caught;
+        } catch (final Exception caught) {
+            throw new Tunnel(this, caught);
+        }
+    }
+
+    private R finish(final A container) {
+        try {
+            return finisher.apply(container);
+        } catch (final RuntimeException caught) {
+            throw caught;
+        } catch (final Exception caught) {
+            throw new Tunnel(this, caught);
+        }
+    }
+
+    /**
+     * Performs a mutable reduction on the elements of a given {@link Stream} using this collector and returns its
+     * result.
+     * <p>
+     * Any checked exception that occurs while collecting will be thrown as is, i.e. as its original type. If the
+     * stream is parallel, the first such exception that reaches the caller is thrown.
+     *
+     * @throws X if so.
+     * @see Stream#collect(Collector)
+     */
+    public final R collect(final Stream<? extends T> stream) throws X {
+        try {
+            return stream.collect(collector);
+        } catch (final Tunnel caught) {
+            throw caught.<X>causeFrom(this);
+        }
+    }
+
+    /**
+     * Returns a {@link Collector} view of this collector that may be passed to {@link Stream#collect(Collector)}
+     * directly, e.g. as a downstream collector. Any checked exception that occurs while collecting will be wrapped in
+     * a {@link WrappedException}.
+     */
+    public final Collector<T, A, R> collector() {
+        return collector;
+    }
+
+    /**
+     * Returns the characteristics of this collector.
+     *
+     * @see Collector#characteristics()
+     */
+    public final Set<Collector.Characteristics> characteristics() {
+        return collector.characteristics();
+    }
+}
@@ -0,0 +1,287 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Provides {@link XCollector}s, i.e. collectors whose functions may throw checked exceptions.
+ * <p>
+ * The specialized collectors of this utility apply the given functions directly while accumulating. Primitive
+ * values are accumulated in primitive buffers, so there is no intermediate boxing, and no function is adapted to a
+ * common functional interface, so there is no intermediate wrapping per element.
+ *
+ * @see java.util.stream.Collectors
+ */
+public final class XCollectors {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private XCollectors() {
+    }
+
+    /**
+     * Returns a new {@link XCollector} described by the given supplier, accumulator, combiner and finisher functions.
+     * <p>
+     * The combiner is applied to the partial results of a parallel stream. It must be associative and may return one
+     * of its arguments after merging the other one into it.
+     *
+     * @see Collector#of(java.util.function.Supplier, java.util.function.BiConsumer,
+     * java.util.function.BinaryOperator, java.util.function.Function, Collector.Characteristics...)
+     */
+    public static <T, A, R, X extends Exception> XCollector<T, A, R, X> of(
+            final XSupplier<A, ? extends X> supplier,
+            final XBiConsumer<A, ? super T, ? extends X> accumulator,
+            final XBinaryOperator<A, ? extends X> combiner,
+            final XFunction<A, R, ? extends X> finisher,
+            final Collector.Characteristics... characteristics) {
+        return new XCollector<>(requireNonNull(supplier, "<supplier> must not be null"),
+                                requireNonNull(accumulator, "<accumulator> must not be null"),
+                                requireNonNull(combiner, "<combiner> must not be null"),
+                                requireNonNull(finisher, "<finisher> must not be null"),
+                                characteristics);
+    }
+
+    /**
+     * Returns a new {@link XCollector} described by the given supplier, accumulator and combiner functions. The
+     * resulting collector has the {@link Collector.Characteristics#IDENTITY_FINISH IDENTITY_FINISH} characteristic.
+     *
+     * @see #of(XSupplier, XBiConsumer, XBinaryOperator, XFunction, Collector.Characteristics...)
+     */
+    public static <T, R, X extends Exception> XCollector<T, R, R, X> of(
+            final XSupplier<R, ? extends X> supplier,
+            final XBiConsumer<R, ? super T, ? extends X> accumulator,
+            final XBinaryOperator<R, ? extends X> combiner,
+            final Collector.Characteristics... characteristics) {
+        final Collector.Characteristics[] identityFinish = Arrays.copyOf(characteristics, characteristics.length + 1);
+        identityFinish[characteristics.length] = Collector.Characteristics.IDENTITY_FINISH;
+        return of(supplier, accumulator, combiner, r -> r, identityFinish);
+    }
+
+    /**
+     * Returns an {@link XCollector} that accumulates the input elements into a new {@link List}.
+     *
+     * @see java.util.stream.Collectors#toList()
+     */
+    public static <T, X extends Exception> XCollector<T, ?, List<T>, X> toList() {
+        return of(ArrayList<T>::new, List::add, (left, right) -> {
+            left.addAll(right);
+            return left;
+        });
+    }
+
+    /**
+     * Returns an {@link XCollector} that accumulates the input elements into a {@link Map} whose keys and values are
+     * the result of applying the given mapping functions to the input elements.
+     * <p>
+     * If the mapped keys contain duplicates, an {@link IllegalStateException} is thrown when the collection operation
+     * is performed.
+     *
+     * @see java.util.stream.Collectors#toMap(java.util.function.Function, java.util.function.Function)
+     */
+    public static <T, K, V, X extends Exception> XCollector<T, ?, Map<K, V>, X> toMap(
+            final XFunction<? super T, ? extends K, ? extends X> keyMapper,
+            final XFunction<? super T, ? extends V, ? extends X> valueMapper) {
+        return toMap(keyMapper, valueMapper, null);
+    }
+
+    /**
+     * Returns an {@link XCollector} that accumulates the input elements into a {@link Map} whose keys and values are
+     * the result of applying the given mapping functions to the input elements. The values of duplicate keys are
+     * merged using a given merge function.
+     *
+     * @param merge The function to merge the values of duplicate keys, or {@code null} to throw an
+     *              {@link IllegalStateException} on duplicate keys.
+     * @see java.util.stream.Collectors#toMap(java.util.function.Function, java.util.function.Function,
+     * java.util.function.BinaryOperator)
+     */
+    public static <T, K, V, X extends Exception> XCollector<T, ?, Map<K, V>, X> toMap(
+            final XFunction<? super T, ? extends K, ? extends X> keyMapper,
+            final XFunction<? super T, ? extends V, ? extends X> valueMapper,
+            final XBinaryOperator<V, ? extends X> merge) {
+        requireNonNull(keyMapper, "<keyMapper> must not be null");
+        requireNonNull(valueMapper, "<valueMapper> must not be null");
+        return XCollectors.<T, Map<K, V>, X>of(HashMap::new, (map, element) -> {
+            put(map, keyMapper.apply(element), valueMapper.apply(element), merge);
+        }, (left, right) -> {
+            for (final Map.Entry<K, V> entry : right.entrySet()) {
+                put(left, entry.getKey(), entry.getValue(), merge);
+            }
+            return left;
+        });
+    }
+
+    private static <K, V, X extends Exception> void put(final Map<K, V> map, final K key, final V value,
+                                                        final XBinaryOperator<V, X> merge) throws X {
+        final V old = map.putIfAbsent(key, requireNonNull(value, "<value> must not be null"));
+        if (null != old) {
+            if (null == merge) {
+                throw new IllegalStateException("Duplicate key " + key + " (attempted merging values " + old
+                                                        + " and " + value + ")");
+            }
+            map.put(key, merge.apply(old, value));
+        }
+    }
+
+    /**
+     * Returns an {@link XCollector} that groups the input elements by the result of a given classifier function into
+     * a {@link Map} of {@link List}s.
+     *
+     * @see java.util.stream.Collectors#groupingBy(java.util.function.Function)
+     */
+    public static <T, K, X extends Exception> XCollector<T, ?, Map<K, List<T>>, X> groupingBy(
+            final XFunction<? super T, ? extends K, ? extends X> classifier) {
+        return groupingBy(classifier, XCollectors.<T, X>toList());
+    }
+
+    /**
+     * Returns an {@link XCollector} that groups the input elements by the result of a given classifier function and
+     * performs a reduction on the elements of each group using a given downstream {@link XCollector}.
+     *
+     * @see java.util.stream.Collectors#groupingBy(java.util.function.Function, Collector)
+     */
+    public static <T, K, A, D, X extends Exception> XCollector<T, ?, Map<K, D>, X> groupingBy(
+            final XFunction<? super T, ? extends K, ? extends X> classifier,
+            final XCollector<? super T, A, D, ? extends X> downstream) {
+        requireNonNull(classifier, "<classifier> must not be null");
+        requireNonNull(downstream, "<downstream> must not be null");
+        return XCollectors.<T, Map<K, A>, Map<K, D>, X>of(HashMap::new, (map, element) -> {
+            final K key = requireNonNull(classifier.apply(element), "element cannot be mapped to a null key");
+            A container = map.get(key);
+            if (null == container) {
+                container = downstream.supplier.get();
+                map.put(key, container);
+            }
+            downstream.accumulator.accept(container, element);
+        }, (left, right) -> {
+            for (final Map.Entry<K, A> entry : right.entrySet()) {
+                final A container = left.get(entry.getKey());
+                left.put(entry.getKey(),
+                         (null == container) ? entry.getValue() : downstream.combiner.apply(container,
+                                                                                            entry.getValue()));
+            }
+            return left;
+        }, map -> {
+            final Map<K, D> result = new HashMap<>(map.size() * 4 / 3 + 1);
+            for (final Map.Entry<K, A> entry : map.entrySet()) {
+                result.put(entry.getKey(), downstream.finisher.apply(entry.getValue()));
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Returns an {@link XCollector} that accumulates the {@code int} values resulting from a given mapping function
+     * into an {@code int[]}, in encounter order and without boxing.
+     */
+    public static <T, X extends Exception> XCollector<T, ?, int[], X> toIntArray(
+            final XToIntFunction<? super T, ? extends X> mapper) {
+        requireNonNull(mapper, "<mapper> must not be null");
+        return of(Ints::new, (ints, element) -> ints.add(mapper.applyAsInt(element)), Ints::addAll, Ints::toArray);
+    }
+
+    /**
+     * Returns an {@link XCollector} that accumulates the {@code long} values resulting from a given mapping function
+     * into a {@code long[]}, in encounter order and without boxing.
+     */
+    public static <T, X extends Exception> XCollector<T, ?, long[], X> toLongArray(
+            final XToLongFunction<? super T, ? extends X> mapper) {
+        requireNonNull(mapper, "<mapper> must not be null");
+        return of(Longs::new, (longs, element) -> longs.add(mapper.applyAsLong(element)), Longs::addAll,
+                  Longs::toArray);
+    }
+
+    /**
+     * Returns an {@link XCollector} that accumulates the {@code double} values resulting from a given mapping
+     * function into a {@code double[]}, in encounter order and without boxing.
+     */
+    public static <T, X extends Exception> XCollector<T, ?, double[], X> toDoubleArray(
+            final XToDoubleFunction<? super T, ? extends X> mapper) {
+        requireNonNull(mapper, "<mapper> must not be null");
+        return of(Doubles::new, (doubles, element) -> doubles.add(mapper.applyAsDouble(element)), Doubles::addAll,
+                  Doubles::toArray);
+    }
+
+    private static final class Ints {
+
+        private int[] values = new int[INITIAL_CAPACITY];
+        private int size = 0;
+
+        private void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        private Ints addAll(final Ints other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.size, size << 1));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class Longs {
+
+        private long[] values = new long[INITIAL_CAPACITY];
+        private int size = 0;
+
+        private void add(final long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        private Longs addAll(final Longs other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.size, size << 1));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        private long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class Doubles {
+
+        private double[] values = new double[INITIAL_CAPACITY];
+        private int size = 0;
+
+        private void add(final double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size << 1);
+            }
+            values[size++] = value;
+        }
+
+        private Doubles addAll(final Doubles other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.size, size << 1));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        private double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
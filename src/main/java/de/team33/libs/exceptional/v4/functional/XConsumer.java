@@ -1,5 +1,7 @@
 package de.team33.libs.exceptional.v4.functional;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A kind of consumer that allows to throw a checked exception.
  *
@@ -15,4 +17,18 @@ public interface XConsumer<T, X extends Exception> {
      * @see java.util.function.Consumer#accept(Object)
      */
     void accept(T t) throws X;
+
+    /**
+     * Returns a composed consumer that performs, in sequence, this operation followed by the {@code after}
+     * operation. Both operations may throw the same type of checked exception, which is passed through as is.
+     *
+     * @see java.util.function.Consumer#andThen(java.util.function.Consumer)
+     */
+    default XConsumer<T, X> andThen(final XConsumer<? super T, ? extends X> after) {
+        requireNonNull(after);
+        return t -> {
+            accept(t);
+            after.accept(t);
+        };
+    }
 }
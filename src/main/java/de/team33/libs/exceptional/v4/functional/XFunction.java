@@ -1,5 +1,7 @@
 package de.team33.libs.exceptional.v4.functional;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A kind of function that allows to throw a checked exception.
  *
@@ -15,4 +17,29 @@ public interface XFunction<T, R, X extends Exception> {
      * @see java.util.function.Function#apply(Object)
      */
     R apply(T t) throws X;
+
+    /**
+     * Returns a composed function that first applies this function to its input and then applies the {@code after}
+     * function to the result. Both functions may throw the same type of checked exception, which is passed through
+     * as is, so the composition has a single exception boundary when it is finally
+     * {@linkplain Converter#function(XFunction) converted}.
+     *
+     * @see java.util.function.Function#andThen(java.util.function.Function)
+     */
+    default <V> XFunction<T, V, X> andThen(final XFunction<? super R, ? extends V, ? extends X> after) {
+        requireNonNull(after);
+        return t -> after.apply(apply(t));
+    }
+
+    /**
+     * Returns a composed function that first applies the {@code before} function to its input and then applies this
+     * function to the result. Both functions may throw the same type of checked exception, which is passed through
+     * as is.
+     *
+     * @see java.util.function.Function#compose(java.util.function.Function)
+     */
+    default <V> XFunction<V, R, X> compose(final XFunction<? super V, ? extends T, ? extends X> before) {
+        requireNonNull(before);
+        return v -> apply(before.apply(v));
+    }
 }
@@ -0,0 +1,27 @@
+package de.team33.libs.exceptional.v4.functional;
+
+/**
+ * A kind of iterator that allows to throw a checked exception, e.g. to read records lazily from an I/O-backed source.
+ *
+ * @see java.util.Iterator
+ * @see Streaming
+ */
+public interface XIterator<T, X extends Exception> {
+
+    /**
+     * Returns {@code true} if the iteration has more elements.
+     *
+     * @throws X if so.
+     * @see java.util.Iterator#hasNext()
+     */
+    boolean hasNext() throws X;
+
+    /**
+     * Returns the next element in the iteration.
+     *
+     * @throws X if so.
+     * @throws java.util.NoSuchElementException if the iteration has no more elements.
+     * @see java.util.Iterator#next()
+     */
+    T next() throws X;
+}
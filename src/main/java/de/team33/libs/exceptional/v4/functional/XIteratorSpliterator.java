@@ -0,0 +1,91 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} based on an {@link XIterator}. Splitting hands out batches of elements as arrays of
+ * increasing size, so that the elements can be processed in parallel while the underlying iterator is read
+ * sequentially.
+ */
+final class XIteratorSpliterator<T> implements Spliterator<T> {
+
+    private static final int BATCH_UNIT = 1 << 10;
+    private static final int MAX_BATCH = 1 << 25;
+    private static final int CHARACTERISTICS = ORDERED;
+
+    private final XIterator<? extends T, ?> iterator;
+    private int batch = 0;
+
+    XIteratorSpliterator(final XIterator<? extends T, ?> iterator) {
+        this.iterator = iterator;
+    }
+
+    @Override
+    public final boolean tryAdvance(final Consumer<? super T> action) {
+        final T next;
+        try {
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            next = iterator.next();
+        } catch (final RuntimeException caught) {
+            throw caught;
+        } catch (final Exception caught) {
+            throw new Tunnel(this, caught);
+        }
+        action.accept(next);
+        return true;
+    }
+
+    @Override
+    public final void forEachRemaining(final Consumer<? super T> action) {
+        // The exception boundary covers the iterator only, so the action's failures pass through unchanged ...
+        while (true) {
+            final T next;
+            try {
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                next = iterator.next();
+            } catch (final RuntimeException caught) {
+                throw caught;
+            } catch (final Exception caught) {
+                throw new Tunnel(this, caught);
+            }
+            action.accept(next);
+        }
+    }
+
+    @Override
+    public final Spliterator<T> trySplit() {
+        final int limit = Math.min(batch + BATCH_UNIT, MAX_BATCH);
+        final Object[] array = new Object[limit];
+        int size = 0;
+        try {
+            while ((size < limit) && iterator.hasNext()) {
+                array[size++] = iterator.next();
+            }
+        } catch (final RuntimeException caught) {
+            throw caught;
+        } catch (final Exception caught) {
+            throw new Tunnel(this, caught);
+        }
+        if (0 == size) {
+            return null;
+        }
+        batch = size;
+        return Spliterators.spliterator(array, 0, size, CHARACTERISTICS);
+    }
+
+    @Override
+    public final long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public final int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
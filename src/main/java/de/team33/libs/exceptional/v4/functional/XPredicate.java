@@ -1,5 +1,7 @@
 package de.team33.libs.exceptional.v4.functional;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A kind of predicate that allows to throw a checked exception.
  *
@@ -15,4 +17,35 @@ public interface XPredicate<T, X extends Exception> {
      * @see java.util.function.Predicate#test(Object)
      */
     boolean test(T t) throws X;
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical AND of this predicate and another.
+     * Both predicates may throw the same type of checked exception, which is passed through as is.
+     *
+     * @see java.util.function.Predicate#and(java.util.function.Predicate)
+     */
+    default XPredicate<T, X> and(final XPredicate<? super T, ? extends X> other) {
+        requireNonNull(other);
+        return t -> test(t) && other.test(t);
+    }
+
+    /**
+     * Returns a composed predicate that represents a short-circuiting logical OR of this predicate and another.
+     * Both predicates may throw the same type of checked exception, which is passed through as is.
+     *
+     * @see java.util.function.Predicate#or(java.util.function.Predicate)
+     */
+    default XPredicate<T, X> or(final XPredicate<? super T, ? extends X> other) {
+        requireNonNull(other);
+        return t -> test(t) || other.test(t);
+    }
+
+    /**
+     * Returns a predicate that represents the logical negation of this predicate.
+     *
+     * @see java.util.function.Predicate#negate()
+     */
+    default XPredicate<T, X> negate() {
+        return t -> !test(t);
+    }
 }
@@ -1,5 +1,7 @@
 package de.team33.libs.exceptional.v4.functional;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A kind of supplier that allows to throw a checked exception.
  *
@@ -15,4 +17,13 @@ public interface XSupplier<T, X extends Exception> {
      * @see java.util.function.Supplier#get()
      */
     T get() throws X;
+
+    /**
+     * Returns a composed supplier that first gets a result from this supplier and then applies the {@code after}
+     * function to it. Both may throw the same type of checked exception, which is passed through as is.
+     */
+    default <V> XSupplier<V, X> andThen(final XFunction<? super T, ? extends V, ? extends X> after) {
+        requireNonNull(after);
+        return () -> after.apply(get());
+    }
 }
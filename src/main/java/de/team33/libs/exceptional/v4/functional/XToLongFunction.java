@@ -0,0 +1,18 @@
+package de.team33.libs.exceptional.v4.functional;
+
+/**
+ * A kind of function that produces a long-valued result and allows to throw a checked exception.
+ *
+ * @see java.util.function.ToLongFunction
+ */
+@FunctionalInterface
+public interface XToLongFunction<T, X extends Exception> {
+
+    /**
+     * Applies this function to the given argument.
+     *
+     * @throws X if so.
+     * @see java.util.function.ToLongFunction#applyAsLong(Object)
+     */
+    long applyAsLong(T t) throws X;
+}
@@ -0,0 +1,56 @@
+package de.team33.libs.exceptional.v4;
+
+/**
+ * Hooks to record events of this package for the JDK Flight Recorder.
+ * <p>
+ * This is the Java 11 implementation. The events are disabled by default and must be enabled explicitly in a
+ * recording, e.g. by their names {@value HandlingEvent#NAME} and {@value ExpectationEvent#NAME}.
+ */
+final class Events {
+
+    private Events() {
+    }
+
+    static Object beginHandling() {
+        final HandlingEvent event = new HandlingEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void handled(final Object token, final String branch, final Throwable subject, final Throwable cause) {
+        if (null != token) {
+            final HandlingEvent event = (HandlingEvent) token;
+            event.end();
+            if (event.shouldCommit()) {
+                event.branch = branch;
+                event.subjectType = subject.getClass();
+                event.causeType = (null == cause) ? null : cause.getClass();
+                event.commit();
+            }
+        }
+    }
+
+    static Object beginExpectation() {
+        final ExpectationEvent event = new ExpectationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    static void expected(final Object token, final String message, final Throwable cause) {
+        if (null != token) {
+            final ExpectationEvent event = (ExpectationEvent) token;
+            event.end();
+            if (event.shouldCommit()) {
+                event.message = message;
+                event.causeType = (null == cause) ? null : cause.getClass();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package de.team33.libs.exceptional.v4;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event that covers the creation of an {@link ExpectationException}, including the capture of its stack
+ * trace.
+ */
+@Name(ExpectationEvent.NAME)
+@Label("Expectation Exception")
+@Description("The creation of an ExpectationException, including the capture of its stack trace")
+@Category({"team33", "Exceptional"})
+@Enabled(false)
+final class ExpectationEvent extends Event {
+
+    static final String NAME = "de.team33.exceptional.Expectation";
+
+    @Label("Message")
+    String message;
+
+    @Label("Cause Type")
+    Class<?> causeType;
+}
@@ -0,0 +1,33 @@
+package de.team33.libs.exceptional.v4;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JFR event that covers a {@link Handling} from its creation until one of its branches fires.
+ */
+@Name(HandlingEvent.NAME)
+@Label("Exception Handling")
+@Description("A Handling from its creation until one of its branches fires")
+@Category({"team33", "Exceptional"})
+@Enabled(false)
+@StackTrace(false)
+final class HandlingEvent extends Event {
+
+    static final String NAME = "de.team33.exceptional.Handling";
+
+    @Label("Branch")
+    @Description("The method of the Handling that fired")
+    String branch;
+
+    @Label("Subject Type")
+    Class<?> subjectType;
+
+    @Label("Cause Type")
+    Class<?> causeType;
+}
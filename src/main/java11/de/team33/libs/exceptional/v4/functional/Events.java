@@ -0,0 +1,31 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import java.util.function.Function;
+
+/**
+ * Hooks to record events of this package for the JDK Flight Recorder.
+ * <p>
+ * This is the Java 11 implementation. The events are disabled by default and must be enabled explicitly in a
+ * recording, e.g. by their name {@value WrapEvent#NAME}.
+ */
+final class Events {
+
+    private Events() {
+    }
+
+    static RuntimeException wrapped(final Throwable cause, final Function<Throwable, RuntimeException> wrapping) {
+        final WrapEvent event = new WrapEvent();
+        if (!event.isEnabled()) {
+            return wrapping.apply(cause);
+        }
+        event.begin();
+        final RuntimeException result = wrapping.apply(cause);
+        event.end();
+        if (event.shouldCommit()) {
+            event.causeType = cause.getClass();
+            event.wrapperType = result.getClass();
+            event.commit();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,27 @@
+package de.team33.libs.exceptional.v4.functional;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A JFR event that covers the wrapping of a checked exception by a {@link Converter}.
+ */
+@Name(WrapEvent.NAME)
+@Label("Exception Wrapping")
+@Description("A Converter wraps a checked exception in an unchecked one")
+@Category({"team33", "Exceptional"})
+@Enabled(false)
+final class WrapEvent extends Event {
+
+    static final String NAME = "de.team33.exceptional.Wrap";
+
+    @Label("Cause Type")
+    Class<?> causeType;
+
+    @Label("Wrapper Type")
+    Class<?> wrapperType;
+}
@@ -0,0 +1,29 @@
+package de.team33.libs.exceptional.v4;
+
+/**
+ * Utility to capture partial stack traces of the current thread.
+ * <p>
+ * This is the Java 9 implementation, which uses a {@link StackWalker} to walk only the frames needed.
+ */
+final class StackTraces {
+
+    private static final String LIBRARY_PREFIX = "de.team33.libs.exceptional.v4.";
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    private StackTraces() {
+    }
+
+    /**
+     * Returns the top {@code depth} frames of the current thread's stack, skipping the frames of this library on top.
+     */
+    static StackTraceElement[] callerFrames(final int depth) {
+        return WALKER.walk(frames -> frames.dropWhile(frame -> isLibrary(frame.getClassName()))
+                                           .limit(depth)
+                                           .map(StackWalker.StackFrame::toStackTraceElement)
+                                           .toArray(StackTraceElement[]::new));
+    }
+
+    static boolean isLibrary(final String className) {
+        return className.startsWith(LIBRARY_PREFIX);
+    }
+}
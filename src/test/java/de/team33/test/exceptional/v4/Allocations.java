@@ -0,0 +1,122 @@
+package de.team33.test.exceptional.v4;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * A test utility to determine how many bytes a certain action allocates on the heap per call, once the JIT has
+ * warmed up.
+ * <p>
+ * The measurement is based on {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)}. Tests that use
+ * this utility are skipped on platforms that do not support it.
+ * <p>
+ * A zero budget often relies on the JIT to eliminate allocations that do not escape. Tests that do so should
+ * {@linkplain #assumeEscapeAnalysis() assume} that the JIT configuration actually allows it.
+ */
+public final class Allocations {
+
+    private static final int WARM_UP = 200_000;
+    private static final int CALLS = 100_000;
+    private static final int ROUNDS = 5;
+
+    private Allocations() {
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue("thread allocation measurement is not supported on this platform",
+                   (bean instanceof com.sun.management.ThreadMXBean) &&
+                           ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+        final com.sun.management.ThreadMXBean result = (com.sun.management.ThreadMXBean) bean;
+        result.setThreadAllocatedMemoryEnabled(true);
+        return result;
+    }
+
+    /**
+     * Skips the calling test unless the C2 compiler with escape analysis is in effect and no agent is attached that
+     * may instrument the code, e.g. when running with {@code -Xint}, {@code -XX:TieredStopAtLevel=1} or
+     * {@code -XX:-DoEscapeAnalysis}.
+     */
+    public static void assumeEscapeAnalysis() {
+        final String obstacle = escapeAnalysisObstacle();
+        assumeTrue("escape analysis is not guaranteed: " + obstacle, null == obstacle);
+    }
+
+    private static String escapeAnalysisObstacle() {
+        if (System.getProperty("java.vm.info", "").contains("interpreted mode")) {
+            return "interpreted mode";
+        }
+        for (final String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("-javaagent") || argument.startsWith("-agent")) {
+                return "agent attached: " + argument;
+            }
+        }
+        final HotSpotDiagnosticMXBean bean = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class);
+        if (null == bean) {
+            return "not a HotSpot VM";
+        }
+        try {
+            if (!Boolean.parseBoolean(bean.getVMOption("DoEscapeAnalysis").getValue())) {
+                return "-XX:-DoEscapeAnalysis";
+            }
+            if (Boolean.parseBoolean(bean.getVMOption("TieredCompilation").getValue()) &&
+                    (Integer.parseInt(bean.getVMOption("TieredStopAtLevel").getValue()) < 4)) {
+                return "C2 disabled by -XX:TieredStopAtLevel";
+            }
+        } catch (final IllegalArgumentException caught) {
+            return "unknown VM option: " + caught.getMessage();
+        }
+        return null;
+    }
+
+    /**
+     * Determines the average number of bytes a given action allocates per call after a warm-up phase.
+     * <p>
+     * The measurement is repeated several times and the lowest result counts, so that a background JIT compilation
+     * or a single outlier does not fail a test.
+     */
+    public static long bytesPerCall(final Runnable action) {
+        final com.sun.management.ThreadMXBean bean = threadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        repeat(action, WARM_UP);
+        final long overhead = measure(bean, threadId, () -> {
+        }, 1);
+        long result = Long.MAX_VALUE;
+        for (int round = 0; (round < ROUNDS) && (0 < result); ++round) {
+            final long bytes = measure(bean, threadId, action, CALLS) - overhead;
+            result = Math.min(result, Math.max(0, bytes) / CALLS);
+        }
+        return result;
+    }
+
+    /**
+     * Asserts that a given action does not allocate more than a given budget of bytes per call, once warmed up.
+     *
+     * @param name   A name of the action, to be used in the failure message.
+     * @param budget The maximum number of bytes the action is allowed to allocate per call.
+     * @param action The action to be measured.
+     */
+    public static void assertBudget(final String name, final long budget, final Runnable action) {
+        final long actual = bytesPerCall(action);
+        assertTrue(String.format("%s: expected at most %d bytes per call but was %d", name, budget, actual),
+                   actual <= budget);
+    }
+
+    private static long measure(final com.sun.management.ThreadMXBean bean, final long threadId,
+                                final Runnable action, final int calls) {
+        final long start = bean.getThreadAllocatedBytes(threadId);
+        repeat(action, calls);
+        return bean.getThreadAllocatedBytes(threadId) - start;
+    }
+
+    private static void repeat(final Runnable action, final int calls) {
+        for (int index = 0; index < calls; ++index) {
+            action.run();
+        }
+    }
+}
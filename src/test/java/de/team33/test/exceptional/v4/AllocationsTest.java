@@ -0,0 +1,27 @@
+package de.team33.test.exceptional.v4;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AllocationsTest {
+
+    private static volatile Object sink;
+
+    @Test
+    public final void bytesPerCallNone() {
+        assertEquals(0, Allocations.bytesPerCall(() -> sink = AllocationsTest.class));
+    }
+
+    @Test
+    public final void bytesPerCallEscaping() {
+        final long result = Allocations.bytesPerCall(() -> sink = new long[16]);
+        assertTrue("expected at least 128 bytes per call but was " + result, 128 <= result);
+    }
+
+    @Test(expected = AssertionError.class)
+    public final void assertBudgetExceeded() {
+        Allocations.assertBudget("escaping", 0, () -> sink = new long[16]);
+    }
+}
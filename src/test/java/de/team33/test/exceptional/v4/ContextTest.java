@@ -0,0 +1,81 @@
+package de.team33.test.exceptional.v4;
+
+import de.team33.libs.exceptional.v4.Context;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ContextTest {
+
+    @Test
+    public final void empty() {
+        assertTrue(Context.empty().isEmpty());
+        assertEquals("{}", Context.empty().toString());
+        assertEquals(Optional.empty(), Context.empty().get("any"));
+    }
+
+    @Test
+    public final void with() {
+        final Context context = Context.of("request", "r1").with("item", 278).with("partition", null);
+        assertFalse(context.isEmpty());
+        assertEquals("{request=r1, item=278, partition=null}", context.toString());
+        assertEquals(Optional.of(278), context.get("item"));
+        assertEquals(Optional.empty(), context.get("partition"));
+    }
+
+    @Test
+    public final void latestValueApplies() {
+        final Context context = Context.of("key", 1).with("other", 2).with("key", 3);
+        assertEquals("{key=3, other=2}", context.toString());
+        assertEquals(Optional.of(3), context.get("key"));
+    }
+
+    @Test
+    public final void withContext() {
+        final Context left = Context.of("a", 1).with("b", 2);
+        final Context right = Context.of("b", 3).with("c", 4);
+        assertEquals("{a=1, b=3, c=4}", left.with(right).toString());
+        assertSame(left, left.with(Context.empty()));
+        assertSame(right, Context.empty().with(right));
+    }
+
+    @Test
+    public final void lazyValue() {
+        final AtomicInteger evaluations = new AtomicInteger(0);
+        final Context context = Context.of("lazy", (Supplier<Integer>) evaluations::incrementAndGet);
+        assertEquals(0, evaluations.get());
+        assertEquals("{lazy=1}", context.toString());
+        assertEquals(Optional.of(2), context.get("lazy"));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public final void nullKey() {
+        Context.of(null, "value");
+    }
+
+    @Test
+    public final void serialization() throws IOException, ClassNotFoundException {
+        final Context context = Context.of("item", 278).with("lazy", (Supplier<String>) () -> "evaluated");
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(context);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final Context result = (Context) in.readObject();
+            assertEquals("{item=278, lazy=evaluated}", result.toString());
+            assertEquals(Optional.of("278"), result.get("item"));
+        }
+    }
+}
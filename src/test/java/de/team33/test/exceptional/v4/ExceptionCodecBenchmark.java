@@ -0,0 +1,76 @@
+package de.team33.test.exceptional.v4;
+
+import de.team33.libs.exceptional.v4.ExceptionCodec;
+import de.team33.libs.exceptional.v4.WrappedException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the round trip of an exception chain through the {@link ExceptionCodec} with a round trip through Java
+ * serialization.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExceptionCodecBenchmark {
+
+    @Param({"16", "128"})
+    private int stackDepth;
+
+    private WrappedException exception;
+    private ByteBuffer buffer;
+
+    private static Throwable failAt(final int depth) {
+        if (0 < depth) {
+            return failAt(depth - 1);
+        }
+        final IOException cause = new IOException("not readable");
+        cause.addSuppressed(new IllegalStateException("while closing"));
+        return new WrappedException(new WrappedException(cause)).with("item", 278);
+    }
+
+    @Setup
+    public void setup() {
+        exception = (WrappedException) failAt(stackDepth);
+        buffer = ByteBuffer.allocateDirect(1 << 20);
+    }
+
+    @Benchmark
+    public Throwable codec() {
+        buffer.clear();
+        ExceptionCodec.encode(exception, buffer);
+        buffer.flip();
+        return ExceptionCodec.decode(buffer);
+    }
+
+    @Benchmark
+    public Object serialization() throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(exception);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return in.readObject();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package de.team33.test.exceptional.v4;
+
+import de.team33.libs.exceptional.v4.DecodedException;
+import de.team33.libs.exceptional.v4.ExceptionCodec;
+import de.team33.libs.exceptional.v4.ExpectationException;
+import de.team33.libs.exceptional.v4.WrappedException;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ExceptionCodecTest {
+
+    private static Throwable roundTrip(final Throwable original) {
+        final ByteBuffer buffer = ExceptionCodec.encode(original);
+        final Throwable result = ExceptionCodec.decode(buffer);
+        assertEquals("The buffer is expected to be consumed completely", 0, buffer.remaining());
+        return result;
+    }
+
+    private static void assertSameFrames(final StackTraceElement[] expected, final StackTraceElement[] actual) {
+        assertEquals(expected.length, actual.length);
+        for (int index = 0; index < expected.length; ++index) {
+            assertEquals(expected[index].getClassName(), actual[index].getClassName());
+            assertEquals(expected[index].getMethodName(), actual[index].getMethodName());
+            assertEquals(expected[index].getFileName(), actual[index].getFileName());
+            assertEquals(expected[index].getLineNumber(), actual[index].getLineNumber());
+        }
+    }
+
+    private static WrappedException sample() {
+        final IOException cause = new IOException("not readable");
+        cause.addSuppressed(new IllegalStateException("while closing"));
+        return new WrappedException(cause).with("item", 278)
+                                          .with("partition", "p1");
+    }
+
+    @Test
+    public final void wrappedException() {
+        final WrappedException original = sample();
+        final Throwable result = roundTrip(original);
+
+        assertEquals(WrappedException.class, result.getClass());
+        assertEquals(original.getMessage(), result.getMessage());
+        assertEquals(original.context().toString(), ((WrappedException) result).context().toString());
+        assertSameFrames(original.getStackTrace(), result.getStackTrace());
+
+        final Throwable cause = result.getCause();
+        assertEquals(DecodedException.class, cause.getClass());
+        assertEquals(IOException.class.getName(), ((DecodedException) cause).typeName());
+        assertEquals(original.getCause().toString(), cause.toString());
+        assertSameFrames(original.getCause().getStackTrace(), cause.getStackTrace());
+
+        assertEquals(1, cause.getSuppressed().length);
+        assertEquals(original.getCause().getSuppressed()[0].toString(), cause.getSuppressed()[0].toString());
+    }
+
+    @Test
+    public final void wrappedExceptionWithExplicitMessage() {
+        final WrappedException original = new WrappedException("explicit", new SQLException("sql"));
+        assertEquals("explicit", roundTrip(original).getMessage());
+    }
+
+    @Test
+    public final void expectationException() {
+        final ExpectationException original = new ExpectationException("unexpected").with("key", "value");
+        final Throwable result = roundTrip(original);
+        assertEquals(ExpectationException.class, result.getClass());
+        assertEquals("unexpected {key=value}", result.getMessage());
+        assertNull(result.getCause());
+    }
+
+    @Test
+    public final void decodedException() {
+        final Throwable once = roundTrip(new IOException("io"));
+        final Throwable twice = roundTrip(once);
+        assertEquals(once.toString(), twice.toString());
+        assertEquals(IOException.class.getName() + ": io", twice.toString());
+    }
+
+    @Test
+    public final void nullException() {
+        assertNull(roundTrip(null));
+    }
+
+    @Test
+    public final void cyclicChain() {
+        final IOException first = new IOException("first");
+        final IllegalStateException second = new IllegalStateException("second", first);
+        first.initCause(second);
+        final Throwable result = roundTrip(first);
+        assertEquals(IOException.class.getName() + ": first", result.toString());
+        assertEquals(IllegalStateException.class.getName() + ": second", result.getCause().toString());
+        assertNull(result.getCause().getCause());
+    }
+
+    @Test
+    public final void sharedSuppressed() {
+        final IllegalStateException shared = new IllegalStateException("shared");
+        final IOException original = new IOException("original", shared);
+        original.addSuppressed(shared);
+        final Throwable result = roundTrip(original);
+        assertSame(result.getCause(), result.getSuppressed()[0]);
+    }
+
+    @Test
+    public final void embedded() {
+        final WrappedException original = sample();
+        final ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+        buffer.putLong(278L);
+        ExceptionCodec.encode(original, buffer);
+        final int end = buffer.position();
+        buffer.putInt(-1);
+        buffer.flip();
+
+        assertEquals(278L, buffer.getLong());
+        final Throwable result = ExceptionCodec.decode(buffer);
+        assertEquals(end, buffer.position());
+        assertEquals(-1, buffer.getInt());
+        assertEquals(original.getMessage(), result.getMessage());
+        assertEquals(end - Long.BYTES, ExceptionCodec.encodedSize(original));
+    }
+
+    @Test
+    public final void overflow() {
+        final ByteBuffer buffer = ByteBuffer.allocate(16);
+        try {
+            ExceptionCodec.encode(sample(), buffer);
+            throw new AssertionError("expected to fail but worked");
+        } catch (final BufferOverflowException expected) {
+            assertEquals(0, buffer.position());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void noMagic() {
+        ExceptionCodec.decode(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    @Test
+    public final void truncated() {
+        final byte[] bytes = ExceptionCodec.encode(sample()).array();
+        for (int length = 0; length < bytes.length; length += 7) {
+            try {
+                ExceptionCodec.decode(ByteBuffer.wrap(Arrays.copyOf(bytes, length)));
+                throw new AssertionError("expected to fail with length " + length);
+            } catch (final IllegalArgumentException expected) {
+                // as expected
+            }
+        }
+    }
+
+    @Test
+    public final void smallerThanSerialization() throws IOException {
+        final WrappedException original = sample();
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(original);
+        }
+        final int encoded = ExceptionCodec.encodedSize(original);
+        assertTrue("expected " + encoded + " to be less than half of " + bytes.size(),
+                   2 * encoded < bytes.size());
+    }
+}
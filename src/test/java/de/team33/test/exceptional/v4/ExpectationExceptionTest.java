@@ -31,4 +31,15 @@ public class ExpectationExceptionTest {
         assertEquals("the message",
                      new ExpectationException("the message").getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    public final void withContext() {
+        assertEquals("the message {key=value}",
+                     new ExpectationException("the message").with("key", "value").getMessage());
+        assertEquals("{key=value}",
+                     new ExpectationException((String) null).with("key", "value").getMessage());
+        assertEquals("Unexpected: the message {key=value}",
+                     new ExpectationException(new IllegalStateException("the message")).with("key", "value")
+                                                                                       .getMessage());
+    }
+}
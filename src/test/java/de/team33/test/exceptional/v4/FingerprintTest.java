@@ -0,0 +1,66 @@
+package de.team33.test.exceptional.v4;
+
+import de.team33.libs.exceptional.v4.ExpectationException;
+import de.team33.libs.exceptional.v4.Fingerprint;
+import de.team33.libs.exceptional.v4.WrappedException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+public class FingerprintTest {
+
+    private static List<Throwable> sameOrigin(final int count) {
+        final List<Throwable> result = new ArrayList<>(count);
+        for (int index = 0; index < count; ++index) {
+            result.add(new WrappedException(new IOException("message #" + index)));
+        }
+        return result;
+    }
+
+    @Test
+    public final void sameOriginSameFingerprint() {
+        final List<Throwable> samples = sameOrigin(3);
+        final long expected = Fingerprint.of(samples.get(0));
+        for (final Throwable sample : samples) {
+            assertEquals(expected, Fingerprint.of(sample));
+        }
+    }
+
+    @Test
+    public final void differentTypesDifferentFingerprint() {
+        assertNotEquals(Fingerprint.of(new WrappedException(new IOException())),
+                        Fingerprint.of(new WrappedException(new SQLException())));
+        assertNotEquals(Fingerprint.of(new WrappedException(new IOException())),
+                        Fingerprint.of(new ExpectationException(new IOException())));
+    }
+
+    @Test
+    public final void differentOriginDifferentFingerprint() {
+        final IOException first = new IOException();
+        final IOException second = new IOException();
+        assertNotEquals(Fingerprint.of(first), Fingerprint.of(second));
+    }
+
+    @Test
+    public final void depthZeroIgnoresOrigin() {
+        final IOException first = new IOException();
+        final IOException second = new IOException();
+        assertEquals(Fingerprint.of(first, 0), Fingerprint.of(second, 0));
+    }
+
+    @Test
+    public final void nullIsStable() {
+        assertEquals(Fingerprint.of(null), Fingerprint.of(null));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void negativeDepth() {
+        Fingerprint.of(new IOException(), -1);
+    }
+}
@@ -0,0 +1,50 @@
+package de.team33.test.exceptional.v4;
+
+import de.team33.libs.exceptional.v4.Handling;
+import de.team33.libs.exceptional.v4.Recovery;
+import de.team33.libs.exceptional.v4.WrappedException;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeoutException;
+
+import static de.team33.test.exceptional.v4.Allocations.assertBudget;
+
+/**
+ * Checks the heap allocation of the {@link Handling} entry points on the path where no exception is (re-)thrown.
+ */
+public class HandlingAllocationTest {
+
+    // Handling.of(..) creates a new instance per call, which the C2 escape analysis eliminates once warmed up ...
+    private static final long BUDGET = 0;
+    private static final WrappedException SUBJECT = new WrappedException(new TimeoutException());
+    private static final Recovery<Integer> RECOVERY = Recovery.onCause(IOException.class, e -> 1)
+                                                              .onCause(TimeoutException.class, e -> 2)
+                                                              .otherwise(e -> 0);
+
+    @Before
+    public final void setUp() {
+        Allocations.assumeEscapeAnalysis();
+    }
+
+    @Test
+    public final void reThrowCauseIf() {
+        assertBudget("reThrowCauseIf", BUDGET, () -> {
+            try {
+                Handling.of(SUBJECT)
+                        .reThrowCauseIf(IOException.class)
+                        .reThrowCauseIf(SQLException.class)
+                        .fallback();
+            } catch (final IOException | SQLException caught) {
+                throw new IllegalStateException(caught);
+            }
+        });
+    }
+
+    @Test
+    public final void recovered() {
+        assertBudget("recovered", BUDGET, () -> Handling.of(SUBJECT).recovered(RECOVERY));
+    }
+}
@@ -1,6 +1,9 @@
 package de.team33.test.exceptional.v4;
 
+import de.team33.libs.exceptional.v4.ExpectationException;
 import de.team33.libs.exceptional.v4.Handling;
+import de.team33.libs.exceptional.v4.Recovery;
+import de.team33.libs.exceptional.v4.Unwrapping;
 import de.team33.libs.exceptional.v4.WrappedException;
 import org.junit.Test;
 
@@ -9,10 +12,12 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
@@ -174,4 +179,41 @@ public class HandlingTest {
                                          .mappedCause(Function.identity());
         assertSame(original, result);
     }
+
+    @Test
+    public final void mappedCauseBehindTransparentLayers() {
+        final IOException original = new IOException();
+        final Throwable result = Handling.of(new WrappedException(new ExecutionException(original)))
+                                         .mappedCause(Function.identity());
+        assertSame(original, result);
+    }
+
+    @Test
+    public final void mappedCauseWithoutUnwrapping() {
+        final ExecutionException transparent = new ExecutionException(new IOException());
+        final Throwable result = Handling.of(new WrappedException(transparent), Unwrapping.none())
+                                         .mappedCause(Function.identity());
+        assertSame(transparent, result);
+    }
+
+    @Test
+    public final void recovered() {
+        final Recovery<String> recovery = Recovery.onCause(IOException.class, e -> "io")
+                                                  .onCause(SQLException.class, e -> "sql")
+                                                  .otherwise(e -> "other");
+        final List<String> expected = Arrays.asList("io", "sql", "other", "other");
+        for (int index = 0; index < EXCEPTION_LIST.size(); ++index) {
+            final WrappedException caught = new WrappedException(EXCEPTION_LIST.get(index));
+            assertEquals(expected.get(index), Handling.of(caught).recovered(recovery));
+        }
+    }
+
+    @Test
+    public final void context() {
+        final ExpectationException inner = new ExpectationException(new IOException()).with("item", 278)
+                                                                                      .with("source", "inner");
+        final WrappedException outer = new WrappedException(new IllegalStateException(inner)).with("source",
+                                                                                                   "outer");
+        assertEquals("{item=278, source=outer}", Handling.of(outer).context().toString());
+    }
 }
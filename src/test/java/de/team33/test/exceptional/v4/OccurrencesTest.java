@@ -0,0 +1,85 @@
+package de.team33.test.exceptional.v4;
+
+import de.team33.libs.exceptional.v4.Fingerprint;
+import de.team33.libs.exceptional.v4.Occurrences;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OccurrencesTest {
+
+    private final AtomicLong clock = new AtomicLong(1000);
+    private final Occurrences occurrences = Occurrences.of(2, 10, TimeUnit.MILLISECONDS, clock::get);
+
+    @Test
+    public final void reportOncePerInterval() {
+        final IOException failure = new IOException();
+        assertTrue(occurrences.record(failure));
+        clock.addAndGet(5);
+        assertFalse(occurrences.record(failure));
+        clock.addAndGet(5);
+        assertTrue(occurrences.record(failure));
+        assertFalse(occurrences.record(failure));
+
+        final Occurrences.Entry entry = occurrences.get(Fingerprint.of(failure)).orElseThrow(AssertionError::new);
+        assertEquals(4, entry.count());
+        assertEquals(1000, entry.firstSeen());
+        assertEquals(1010, entry.lastSeen());
+    }
+
+    @Test
+    public final void bounded() {
+        occurrences.record(1L);
+        clock.incrementAndGet();
+        occurrences.record(2L);
+        clock.incrementAndGet();
+        occurrences.record(1L);
+        clock.incrementAndGet();
+        occurrences.record(3L);
+
+        assertEquals(2, occurrences.entries().size());
+        assertTrue(occurrences.get(1L).isPresent());
+        assertFalse(occurrences.get(2L).isPresent());
+        assertTrue(occurrences.get(3L).isPresent());
+    }
+
+    @Test
+    public final void boundedUnderLoad() {
+        final Occurrences large = Occurrences.of(100, 10, TimeUnit.MILLISECONDS, clock::get);
+        for (long fingerprint = 0; fingerprint < 1000; ++fingerprint) {
+            clock.incrementAndGet();
+            assertTrue(large.record(fingerprint * 7919));
+        }
+        assertTrue(large.entries().size() <= 100);
+        assertTrue(large.get(999 * 7919).isPresent());
+    }
+
+    @Test
+    public final void concurrentCounting() throws InterruptedException {
+        final Thread[] threads = new Thread[4];
+        for (int index = 0; index < threads.length; ++index) {
+            threads[index] = new Thread(() -> {
+                for (int count = 0; count < 10_000; ++count) {
+                    occurrences.record(278L);
+                }
+            });
+            threads[index].start();
+        }
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, occurrences.get(278L).orElseThrow(AssertionError::new).count());
+    }
+
+    @Test
+    public final void recordingPresentAllocatesNothing() {
+        occurrences.record(278L);
+        Allocations.assertBudget("record", 0, () -> occurrences.record(278L));
+    }
+}
@@ -0,0 +1,56 @@
+package de.team33.test.exceptional.v4;
+
+import de.team33.libs.exceptional.v4.ExpectationException;
+import de.team33.libs.exceptional.v4.Recovery;
+import org.junit.Test;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class RecoveryTest {
+
+    private static final Recovery<String> RECOVERY =
+            Recovery.onCause(FileNotFoundException.class, e -> "not found: " + e.getMessage())
+                    .onCause(IOException.class, e -> "not readable")
+                    .onCause(SQLException.class, e -> "sql state: " + e.getSQLState())
+                    .otherwise(e -> {
+                        throw new ExpectationException(e);
+                    });
+
+    @Test
+    public final void firstMatchingCase() {
+        assertEquals("not found: file", RECOVERY.apply(new FileNotFoundException("file")));
+        assertEquals("not readable", RECOVERY.apply(new IOException()));
+        assertEquals("sql state: 42", RECOVERY.apply(new SQLException("reason", "42")));
+    }
+
+    @Test
+    public final void repeatedLookup() {
+        for (int index = 0; index < 3; ++index) {
+            assertEquals("not found: #" + index, RECOVERY.apply(new FileNotFoundException("#" + index)));
+        }
+    }
+
+    @Test
+    public final void otherwise() {
+        final IllegalStateException unexpected = new IllegalStateException();
+        try {
+            final String result = RECOVERY.apply(unexpected);
+            fail("expected to fail but was " + result);
+        } catch (final ExpectationException caught) {
+            assertSame(unexpected, caught.getCause());
+        }
+    }
+
+    @Test
+    public final void otherwiseNull() {
+        final Recovery<String> recovery = Recovery.onCause(IOException.class, e -> "io")
+                                                  .otherwise(e -> "other: " + e);
+        assertEquals("other: null", recovery.apply(null));
+    }
+}
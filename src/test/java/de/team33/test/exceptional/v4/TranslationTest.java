@@ -0,0 +1,92 @@
+package de.team33.test.exceptional.v4;
+
+import de.team33.libs.exceptional.v4.Translation;
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.Wrapping;
+import de.team33.libs.exceptional.v4.functional.Converter;
+import org.junit.Test;
+
+import java.io.EOFException;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class TranslationTest {
+
+    private static final Translation TRANSLATION =
+            Translation.on(IOException.class, Wrapping.normal(IllegalStateException::new))
+                       .on(FileNotFoundException.class, NotFoundException::new)
+                       .on(SQLTimeoutException.class, RetryableException::new)
+                       .otherwise(WrappedException::new);
+
+    @Test
+    public final void mostSpecificType() {
+        assertTranslated(NotFoundException.class, new FileNotFoundException("file"));
+        assertTranslated(IllegalStateException.class, new IOException("io"));
+        assertTranslated(RetryableException.class, new SQLTimeoutException("timeout"));
+    }
+
+    @Test
+    public final void inheritedType() {
+        assertTranslated(NotFoundException.class, new FileNotFoundException("file") {
+        });
+        assertTranslated(IllegalStateException.class, new EOFException("eof"));
+    }
+
+    @Test
+    public final void otherwise() {
+        assertTranslated(WrappedException.class, new SQLException("sql"));
+        assertTranslated(WrappedException.class, new InterruptedException("interrupted"));
+    }
+
+    @Test
+    public final void repeatedLookup() {
+        for (int index = 0; index < 3; ++index) {
+            assertTranslated(NotFoundException.class, new FileNotFoundException("#" + index));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void duplicateType() {
+        Translation.on(IOException.class, WrappedException::new)
+                   .on(IOException.class, IllegalStateException::new);
+    }
+
+    @Test
+    public final void converter() {
+        final Converter converter = Converter.using(TRANSLATION);
+        try {
+            converter.runnable(() -> {
+                throw new FileNotFoundException("file");
+            }).run();
+            fail("expected to fail but worked");
+        } catch (final NotFoundException caught) {
+            assertEquals(FileNotFoundException.class, caught.getCause().getClass());
+        }
+    }
+
+    private static void assertTranslated(final Class<?> expected, final Throwable cause) {
+        final RuntimeException result = TRANSLATION.apply(cause);
+        assertEquals(expected, result.getClass());
+        assertSame(cause, result.getCause());
+    }
+
+    static class NotFoundException extends RuntimeException {
+
+        NotFoundException(final Throwable cause) {
+            super(cause);
+        }
+    }
+
+    static class RetryableException extends RuntimeException {
+
+        RetryableException(final Throwable cause) {
+            super(cause);
+        }
+    }
+}
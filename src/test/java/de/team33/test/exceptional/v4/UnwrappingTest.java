@@ -0,0 +1,60 @@
+package de.team33.test.exceptional.v4;
+
+import de.team33.libs.exceptional.v4.ElementException;
+import de.team33.libs.exceptional.v4.Unwrapping;
+import de.team33.libs.exceptional.v4.WrappedException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class UnwrappingTest {
+
+    @Test
+    public final void standard() {
+        final IOException original = new IOException();
+        final Throwable sample = new CompletionException(
+                new ExecutionException(
+                        new InvocationTargetException(
+                                new WrappedException(
+                                        new ElementException(
+                                                278, new UncheckedIOException(original))))));
+        assertSame(original, Unwrapping.standard().unwrap(sample));
+    }
+
+    @Test
+    public final void none() {
+        final Throwable sample = new WrappedException(new IOException());
+        assertSame(sample, Unwrapping.none().unwrap(sample));
+    }
+
+    @Test
+    public final void stopsAtNonTransparent() {
+        final IllegalStateException opaque = new IllegalStateException(new WrappedException(new IOException()));
+        assertSame(opaque, Unwrapping.standard().unwrap(new WrappedException(opaque)));
+    }
+
+    @Test
+    public final void keepsTransparentWithoutCause() {
+        final ExecutionException sample = new ExecutionException(null);
+        assertSame(sample, Unwrapping.standard().unwrap(sample));
+        assertNull(Unwrapping.standard().unwrap(null));
+    }
+
+    @Test
+    public final void with() {
+        final IOException original = new IOException();
+        final Unwrapping unwrapping = Unwrapping.standard().with(IllegalStateException.class);
+        assertTrue(unwrapping.isTransparent(IllegalStateException.class));
+        assertFalse(Unwrapping.standard().isTransparent(IllegalStateException.class));
+        assertSame(original, unwrapping.unwrap(new IllegalStateException(new WrappedException(original))));
+    }
+}
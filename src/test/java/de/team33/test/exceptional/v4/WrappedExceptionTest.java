@@ -1,10 +1,13 @@
 package de.team33.test.exceptional.v4;
 
+import de.team33.libs.exceptional.v4.Context;
 import de.team33.libs.exceptional.v4.WrappedException;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
@@ -74,4 +77,24 @@ public class WrappedExceptionTest {
         assertEquals("The <sample> is expected to contain the given <message> as message",
                      message, sample.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    public final void withContext() {
+        final IOException cause = new IOException("io");
+        final WrappedException sample = new WrappedException(cause).with("item", 278)
+                                                                    .with(Context.of("partition", "p1"));
+        assertEquals("wrapped: io {item=278, partition=p1}", sample.getMessage());
+        assertEquals(WrappedException.class.getName() + ": wrapped: io {item=278, partition=p1}",
+                     sample.toString());
+        assertEquals(278, sample.context().get("item").orElse(null));
+    }
+
+    @Test
+    public final void withLazyContext() {
+        final AtomicInteger evaluations = new AtomicInteger(0);
+        final WrappedException sample = new WrappedException("explicit", new IOException())
+                .with("lazy", (Supplier<Integer>) evaluations::incrementAndGet);
+        assertEquals(0, evaluations.get());
+        assertEquals("explicit {lazy=1}", sample.getMessage());
+    }
+}
@@ -0,0 +1,52 @@
+package de.team33.test.exceptional.v4;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.Wrapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the cost of wrapping an exception and materializing the stack trace of the wrapper, e.g. for logging,
+ * with a full and a {@linkplain Wrapping#trimmed(int, Function) trimmed} stack trace at different stack depths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WrappingBenchmark {
+
+    private static final IOException CAUSE = new IOException("benchmark");
+    private static final Function<Throwable, RuntimeException> FULL = WrappedException::new;
+    private static final Function<Throwable, RuntimeException> TRIMMED = Wrapping.trimmed(8, WrappedException::new);
+
+    @Param({"16", "256"})
+    private int stackDepth;
+
+    private static StackTraceElement[] wrapAt(final int depth, final Function<Throwable, RuntimeException> wrapping) {
+        return (0 < depth) ? wrapAt(depth - 1, wrapping) : wrapping.apply(CAUSE).getStackTrace();
+    }
+
+    @Benchmark
+    public StackTraceElement[] full() {
+        return wrapAt(stackDepth, FULL);
+    }
+
+    @Benchmark
+    public StackTraceElement[] trimmed() {
+        return wrapAt(stackDepth, TRIMMED);
+    }
+}
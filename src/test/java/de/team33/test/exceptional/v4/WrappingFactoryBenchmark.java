@@ -0,0 +1,57 @@
+package de.team33.test.exceptional.v4;
+
+import de.team33.libs.exceptional.v4.Wrapping;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the per-call cost of a wrapping method {@linkplain Wrapping#byType(Class) resolved by type} with a
+ * constructor reference and with a reflective constructor call. The wrapping exception is stackless, so that the
+ * cost of the construction itself is not dominated by capturing a stack trace.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class WrappingFactoryBenchmark {
+
+    private static final IOException CAUSE = new IOException("benchmark");
+    private static final Function<Throwable, RuntimeException> REFERENCE = Wrapping.normal(Stackless::new);
+    private static final Function<Throwable, RuntimeException> BY_TYPE = Wrapping.byType(Stackless.class);
+
+    @Benchmark
+    public RuntimeException reference() {
+        return REFERENCE.apply(CAUSE);
+    }
+
+    @Benchmark
+    public RuntimeException byType() {
+        return BY_TYPE.apply(CAUSE);
+    }
+
+    @Benchmark
+    public RuntimeException reflective() throws ReflectiveOperationException {
+        return Stackless.class.getConstructor(String.class, Throwable.class)
+                              .newInstance(CAUSE.getMessage(), CAUSE);
+    }
+
+    public static class Stackless extends RuntimeException {
+
+        public Stackless(final String message, final Throwable cause) {
+            super(message, cause, false, false);
+        }
+    }
+}
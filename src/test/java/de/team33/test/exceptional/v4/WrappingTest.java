@@ -1,5 +1,7 @@
 package de.team33.test.exceptional.v4;
 
+import de.team33.libs.exceptional.v4.ExpectationException;
+import de.team33.libs.exceptional.v4.WrappedException;
 import de.team33.libs.exceptional.v4.Wrapping;
 import org.junit.Test;
 
@@ -74,4 +76,141 @@ public class WrappingTest {
         assertEquals("The <result> is expected to contain the specified <message>",
                      message, result.getMessage());
     }
+
+    @Test
+    public final void trimmed() {
+        final IOException original = new IOException();
+        final Function<Exception, IllegalArgumentException> wrapping =
+                Wrapping.trimmed(2, Wrapping.normal(IllegalArgumentException::new));
+        final IllegalArgumentException result = wrapping.apply(original);
+        assertSame("The <result> is expected to wrap the <original>",
+                   original, result.getCause());
+
+        final StackTraceElement[] frames = result.getStackTrace();
+        assertEquals(2, frames.length);
+        assertEquals(getClass().getName(), frames[0].getClassName());
+        assertEquals("trimmed", frames[0].getMethodName());
+    }
+
+    @Test
+    public final void trimmedWrappedException() {
+        final WrappedException result = Wrapping.trimmed(2, WrappedException::new).apply(new IOException());
+        final StackTraceElement[] frames = result.getStackTrace();
+        assertEquals(2, frames.length);
+        assertEquals(getClass().getName(), frames[0].getClassName());
+        assertEquals("trimmedWrappedException", frames[0].getMethodName());
+    }
+
+    @Test
+    public final void trimmedDoesNotAffectOthers() {
+        Wrapping.trimmed(2, Wrapping.normal(IllegalArgumentException::new)).apply(new IOException());
+        final StackTraceElement[] frames = new WrappedException(new IOException()).getStackTrace();
+        assertTrue(frames.length > 2);
+        assertEquals("trimmedDoesNotAffectOthers", frames[0].getMethodName());
+    }
+
+    @Test
+    public final void trimmedToZero() {
+        final IllegalStateException result = Wrapping.trimmed(0, IllegalStateException::new)
+                                                     .apply(new IOException());
+        assertEquals(0, result.getStackTrace().length);
+    }
+
+    @Test
+    public final void byType_withMessageAndCause() {
+        final IOException original = new IOException(UUID.randomUUID().toString());
+        final IllegalStateException result = Wrapping.<IOException, IllegalStateException>byType(
+                IllegalStateException.class).apply(original);
+        assertSame(original, result.getCause());
+        assertEquals(original.getMessage(), result.getMessage());
+    }
+
+    @Test
+    public final void byType_withCauseOnly() {
+        final IOException original = new IOException(UUID.randomUUID().toString());
+        final CauseOnly result = Wrapping.<IOException, CauseOnly>byType(CauseOnly.class).apply(original);
+        assertSame(original, result.getCause());
+        assertEquals(original.toString(), result.getMessage());
+    }
+
+    @Test
+    public final void byType_withMessageOnly() {
+        final IOException original = new IOException(UUID.randomUUID().toString());
+        final MessageOnly result = Wrapping.<IOException, MessageOnly>byType(MessageOnly.class).apply(original);
+        assertSame(original, result.getCause());
+        assertEquals(original.getMessage(), result.getMessage());
+    }
+
+    @Test
+    public final void byType_asConverterWrapping() {
+        final Function<Throwable, RuntimeException> wrapping = Wrapping.byType(UnsupportedOperationException.class);
+        assertEquals(UnsupportedOperationException.class, wrapping.apply(new IOException()).getClass());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void byType_withoutSuitableConstructor() {
+        Wrapping.byType(NoSuitable.class);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void byType_abstract() {
+        Wrapping.byType(Abstract.class);
+    }
+
+    @Test
+    public final void byType_failingConstructor() {
+        try {
+            Wrapping.<IOException, Failing>byType(Failing.class).apply(new IOException());
+            fail("expected to fail but worked");
+        } catch (final ExpectationException e) {
+            assertEquals(UnsupportedOperationException.class, e.getCause().getClass());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void byType_notAccessible() {
+        Wrapping.byType(Hidden.class);
+    }
+
+    public static class CauseOnly extends RuntimeException {
+
+        public CauseOnly(final Throwable cause) {
+            super(cause);
+        }
+    }
+
+    public static class MessageOnly extends RuntimeException {
+
+        public MessageOnly(final String message) {
+            super(message);
+        }
+    }
+
+    public static class NoSuitable extends RuntimeException {
+
+        public NoSuitable(final int code) {
+            super("code: " + code);
+        }
+    }
+
+    public abstract static class Abstract extends RuntimeException {
+
+        public Abstract(final String message, final Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    public static class Failing extends RuntimeException {
+
+        public Failing(final String message, final Throwable cause) {
+            throw new UnsupportedOperationException("not expected to be instantiated");
+        }
+    }
+
+    private static class Hidden extends RuntimeException {
+
+        public Hidden(final String message, final Throwable cause) {
+            super(message, cause);
+        }
+    }
 }
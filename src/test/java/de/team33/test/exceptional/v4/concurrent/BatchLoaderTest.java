@@ -0,0 +1,225 @@
+package de.team33.test.exceptional.v4.concurrent;
+
+import de.team33.libs.exceptional.v4.concurrent.BatchLoader;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BatchLoaderTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+    private final List<List<Integer>> calls = new CopyOnWriteArrayList<>();
+
+    @After
+    public final void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private Map<Integer, String> backend(final List<Integer> keys) throws IOException {
+        calls.add(new ArrayList<>(keys));
+        final Map<Integer, String> result = new HashMap<>();
+        for (final Integer key : keys) {
+            if (key < 0) {
+                throw new IOException("negative key: " + key);
+            }
+            if (0 != key) {
+                result.put(key, "#" + key);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public final void load() throws IOException {
+        final BatchLoader<Integer, String, IOException> loader = BatchLoader.of(this::backend, scheduler);
+        assertEquals("#278", loader.load(278));
+        assertEquals(Arrays.asList(Arrays.asList(278)), calls);
+    }
+
+    @Test
+    public final void loadMissing() throws IOException {
+        final BatchLoader<Integer, String, IOException> loader = BatchLoader.of(this::backend, scheduler);
+        assertNull(loader.load(0));
+    }
+
+    @Test
+    public final void loadFailing() {
+        final BatchLoader<Integer, String, IOException> loader = BatchLoader.of(this::backend, scheduler);
+        try {
+            final String result = loader.load(-1);
+            fail("expected to fail but was " + result);
+        } catch (final IOException caught) {
+            assertEquals("negative key: -1", caught.getMessage());
+        }
+    }
+
+    @Test
+    public final void coalescing() throws Exception {
+        final BatchLoader<Integer, String, IOException> loader =
+                BatchLoader.of(this::backend, scheduler).withWindow(50, TimeUnit.MILLISECONDS);
+        final List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int key = 1; key <= 10; ++key) {
+            results.add(loader.loadAsync(key));
+        }
+        for (int key = 1; key <= 10; ++key) {
+            assertEquals("#" + key, results.get(key - 1).get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.size());
+        assertEquals(10, calls.get(0).size());
+        assertEquals(1, loader.batches());
+    }
+
+    @Test
+    public final void maxBatchSize() throws Exception {
+        final BatchLoader<Integer, String, IOException> loader = BatchLoader.of(this::backend, scheduler)
+                                                                            .withWindow(10, TimeUnit.SECONDS)
+                                                                            .withMaxBatchSize(4);
+        final List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int key = 1; key <= 8; ++key) {
+            results.add(loader.loadAsync(key));
+        }
+        for (int key = 1; key <= 8; ++key) {
+            assertEquals("#" + key, results.get(key - 1).get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(2, calls.size());
+        assertTrue(calls.contains(Arrays.asList(1, 2, 3, 4)));
+        assertTrue(calls.contains(Arrays.asList(5, 6, 7, 8)));
+    }
+
+    @Test
+    public final void deduplication() throws Exception {
+        final BatchLoader<Integer, String, IOException> loader =
+                BatchLoader.of(this::backend, scheduler).withWindow(50, TimeUnit.MILLISECONDS);
+        final CompletableFuture<String> first = loader.loadAsync(7);
+        final CompletableFuture<String> second = loader.loadAsync(7);
+        assertNotSame(first, second);
+        assertEquals("#7", first.get(10, TimeUnit.SECONDS));
+        assertEquals("#7", second.get(10, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(Arrays.asList(7)), calls);
+        assertEquals(2, loader.requests());
+        assertEquals(1, loader.deduplicated());
+    }
+
+    @Test
+    public final void deduplicationWhileLoading() throws Exception {
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch exit = new CountDownLatch(1);
+        final BatchLoader<Integer, String, IOException> loader = BatchLoader.of((List<Integer> keys) -> {
+            entered.countDown();
+            try {
+                assertTrue(exit.await(10, TimeUnit.SECONDS));
+            } catch (final InterruptedException caught) {
+                throw new IOException(caught);
+            }
+            return backend(keys);
+        }, scheduler).withWindow(0, TimeUnit.MILLISECONDS);
+        final CompletableFuture<String> first = loader.loadAsync(7);
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        final CompletableFuture<String> second = loader.loadAsync(7);
+        exit.countDown();
+        assertEquals("#7", first.get(10, TimeUnit.SECONDS));
+        assertEquals("#7", second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, calls.size());
+        assertEquals(1, loader.deduplicated());
+    }
+
+    @Test
+    public final void failingBatch() throws Exception {
+        final BatchLoader<Integer, String, IOException> loader =
+                BatchLoader.of(this::backend, scheduler).withWindow(50, TimeUnit.MILLISECONDS);
+        final CompletableFuture<String> valid = loader.loadAsync(1);
+        final CompletableFuture<String> invalid = loader.loadAsync(-1);
+        for (final CompletableFuture<String> result : Arrays.asList(valid, invalid)) {
+            try {
+                final String value = result.get(10, TimeUnit.SECONDS);
+                fail("expected to fail but was " + value);
+            } catch (final ExecutionException caught) {
+                assertTrue(caught.getCause() instanceof IOException);
+            }
+        }
+        assertSame(getCause(valid), getCause(invalid));
+        assertEquals("#1", loader.load(1));
+    }
+
+    @Test
+    public final void failingResult() throws Exception {
+        final IllegalStateException failure = new IllegalStateException("rejected key: 2");
+        final BatchLoader<Integer, String, IOException> loader = BatchLoader.of((List<Integer> keys) -> {
+            final Map<Integer, String> result = new HashMap<Integer, String>() {
+                @Override
+                public String get(final Object key) {
+                    if (Integer.valueOf(2).equals(key)) {
+                        throw failure;
+                    }
+                    return super.get(key);
+                }
+            };
+            result.putAll(backend(keys));
+            return result;
+        }, scheduler).withWindow(50, TimeUnit.MILLISECONDS);
+        final CompletableFuture<String> first = loader.loadAsync(1);
+        final CompletableFuture<String> second = loader.loadAsync(2);
+        final CompletableFuture<String> third = loader.loadAsync(3);
+        assertEquals("#1", first.get(10, TimeUnit.SECONDS));
+        assertSame(failure, getCause(second));
+        assertSame(failure, getCause(third));
+        assertEquals("#3", loader.load(3));
+        assertEquals(2, calls.size());
+    }
+
+    @Test
+    public final void cancelledByOneRequester() throws Exception {
+        final BatchLoader<Integer, String, IOException> loader =
+                BatchLoader.of(this::backend, scheduler).withWindow(50, TimeUnit.MILLISECONDS);
+        final CompletableFuture<String> first = loader.loadAsync(7);
+        final CompletableFuture<String> second = loader.loadAsync(7);
+        assertTrue(first.cancel(false));
+        assertTrue(first.isCancelled());
+        assertEquals("#7", second.get(10, TimeUnit.SECONDS));
+        assertEquals(1, calls.size());
+    }
+
+    @Test
+    public final void completedByOneRequester() throws Exception {
+        final BatchLoader<Integer, String, IOException> loader =
+                BatchLoader.of(this::backend, scheduler).withWindow(50, TimeUnit.MILLISECONDS);
+        final CompletableFuture<String> first = loader.loadAsync(7);
+        final CompletableFuture<String> second = loader.loadAsync(7);
+        first.obtrudeValue("forged");
+        assertEquals("#7", second.get(10, TimeUnit.SECONDS));
+    }
+
+    private static Throwable getCause(final CompletableFuture<?> future) throws InterruptedException {
+        try {
+            future.get();
+            throw new AssertionError("expected to fail");
+        } catch (final ExecutionException caught) {
+            return caught.getCause();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void zeroBatchSize() {
+        BatchLoader.of(this::backend, scheduler).withMaxBatchSize(0);
+    }
+}
@@ -0,0 +1,276 @@
+package de.team33.test.exceptional.v4.concurrent;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.concurrent.Bulkhead;
+import de.team33.libs.exceptional.v4.concurrent.BulkheadException;
+import de.team33.libs.exceptional.v4.functional.XFunction;
+import de.team33.libs.exceptional.v4.functional.XRunnable;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BulkheadTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final CountDownLatch entered = new CountDownLatch(1);
+    private final CountDownLatch exit = new CountDownLatch(1);
+
+    @After
+    public final void tearDown() {
+        exit.countDown();
+        executor.shutdownNow();
+    }
+
+    private void blocking() throws InterruptedException {
+        entered.countDown();
+        assertTrue(exit.await(10, TimeUnit.SECONDS));
+    }
+
+    private Future<?> occupy(final XRunnable<InterruptedException> runnable) throws InterruptedException {
+        final Future<?> future = executor.submit(() -> {
+            runnable.run();
+            return null;
+        });
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        return future;
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void ofZero() {
+        Bulkhead.of(0);
+    }
+
+    @Test
+    public final void function() throws IOException {
+        final Bulkhead bulkhead = Bulkhead.of(1);
+        final XFunction<String, Integer, IOException> length = bulkhead.function(String::length);
+        assertEquals(Integer.valueOf(3), length.apply("abc"));
+        assertEquals(Integer.valueOf(0), length.apply(""));
+        assertEquals(2, bulkhead.accepted());
+        assertEquals(0, bulkhead.active());
+        assertEquals(1, bulkhead.peak());
+    }
+
+    @Test
+    public final void functionFailing() {
+        final IOException failure = new IOException();
+        final Bulkhead bulkhead = Bulkhead.of(1);
+        final XFunction<String, Integer, IOException> failing = bulkhead.function(text -> {
+            throw failure;
+        });
+        try {
+            final Integer result = failing.apply("abc");
+            fail("expected to fail but was " + result);
+        } catch (final IOException caught) {
+            assertSame(failure, caught);
+            assertEquals(0, bulkhead.active());
+        }
+    }
+
+    @Test
+    public final void rejectFast() throws Exception {
+        final Bulkhead bulkhead = Bulkhead.of(1);
+        occupy(bulkhead.runnable(this::blocking));
+        try {
+            bulkhead.supplier(() -> "never").get();
+            fail("expected to be rejected");
+        } catch (final BulkheadException caught) {
+            assertEquals(1, caught.maxConcurrent());
+            assertEquals(0, caught.getStackTrace().length);
+        }
+        assertEquals(1, bulkhead.active());
+        assertEquals(1, bulkhead.accepted());
+        assertEquals(1, bulkhead.rejected());
+    }
+
+    @Test
+    public final void rejectionIsShared() throws Exception {
+        final Bulkhead bulkhead = Bulkhead.of(1);
+        occupy(bulkhead.runnable(this::blocking));
+        final List<BulkheadException> rejections = new ArrayList<>();
+        for (int index = 0; index < 2; ++index) {
+            try {
+                bulkhead.runnable(() -> {
+                }).run();
+                fail("expected to be rejected");
+            } catch (final BulkheadException caught) {
+                rejections.add(caught);
+            }
+        }
+        assertSame(rejections.get(0), rejections.get(1));
+    }
+
+    @Test
+    public final void waitTimeout() throws Exception {
+        final Bulkhead bulkhead = Bulkhead.of(1).withMaxWait(20, TimeUnit.MILLISECONDS);
+        occupy(bulkhead.runnable(this::blocking));
+        final long start = System.nanoTime();
+        try {
+            bulkhead.supplier(() -> "never").get();
+            fail("expected to be rejected");
+        } catch (final BulkheadException caught) {
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(20));
+        }
+    }
+
+    @Test
+    public final void waitForPermit() throws Exception {
+        final Bulkhead bulkhead = Bulkhead.of(1).withMaxWait(10, TimeUnit.SECONDS);
+        final Future<?> occupied = occupy(bulkhead.runnable(this::blocking));
+        final Future<String> waiting = executor.submit(() -> bulkhead.supplier(() -> "done").get());
+        Thread.sleep(20);
+        exit.countDown();
+        occupied.get();
+        assertEquals("done", waiting.get(10, TimeUnit.SECONDS));
+        assertEquals(2, bulkhead.accepted());
+        assertEquals(0, bulkhead.rejected());
+    }
+
+    @Test
+    public final void interruptedWhileWaiting() throws Exception {
+        final Bulkhead bulkhead = Bulkhead.of(1).withMaxWait(10, TimeUnit.SECONDS);
+        occupy(bulkhead.runnable(this::blocking));
+        Thread.currentThread().interrupt();
+        try {
+            bulkhead.supplier(() -> "never").get();
+            fail("expected to be interrupted");
+        } catch (final WrappedException caught) {
+            assertTrue(caught.getCause() instanceof InterruptedException);
+            assertTrue(Thread.interrupted());
+        }
+        assertEquals(0, bulkhead.rejected());
+        assertEquals(1, bulkhead.active());
+    }
+
+    @Test
+    public final void limitsConcurrency() throws Exception {
+        final Bulkhead bulkhead = Bulkhead.of(3).withMaxWait(10, TimeUnit.SECONDS);
+        final AtomicInteger current = new AtomicInteger(0);
+        final AtomicInteger highest = new AtomicInteger(0);
+        final XRunnable<InterruptedException> limited = bulkhead.runnable(() -> {
+            highest.accumulateAndGet(current.incrementAndGet(), Math::max);
+            Thread.sleep(1);
+            current.decrementAndGet();
+        });
+        final List<Future<?>> futures = new ArrayList<>();
+        for (int index = 0; index < 40; ++index) {
+            futures.add(executor.submit(() -> {
+                limited.run();
+                return null;
+            }));
+        }
+        for (final Future<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        assertTrue("highest: " + highest.get(), highest.get() <= 3);
+        assertEquals(highest.get(), bulkhead.peak());
+        assertEquals(40, bulkhead.accepted());
+    }
+
+    @Test
+    public final void async() throws Exception {
+        final Bulkhead bulkhead = Bulkhead.of(2).withMaxQueued(100);
+        final Function<Integer, CompletableFuture<Integer>> squared = bulkhead.async(value -> value * value,
+                                                                                      executor);
+        final List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int index = 0; index < 50; ++index) {
+            results.add(squared.apply(index));
+        }
+        for (int index = 0; index < 50; ++index) {
+            assertEquals(Integer.valueOf(index * index), results.get(index).get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(50, bulkhead.accepted());
+        assertEquals(0, bulkhead.queued());
+        assertTrue(bulkhead.peak() <= 2);
+    }
+
+    @Test
+    public final void asyncQueuedAndRejected() throws Exception {
+        final Bulkhead bulkhead = Bulkhead.of(1).withMaxQueued(1);
+        final Function<String, CompletableFuture<String>> async = bulkhead.async(text -> {
+            if ("blocking".equals(text)) {
+                blocking();
+            }
+            return text;
+        }, executor);
+        final CompletableFuture<String> first = async.apply("blocking");
+        assertTrue(entered.await(10, TimeUnit.SECONDS));
+        final CompletableFuture<String> second = async.apply("queued");
+        final CompletableFuture<String> third = async.apply("rejected");
+
+        assertEquals(1, bulkhead.queued());
+        try {
+            final String result = third.get();
+            fail("expected to be rejected but was " + result);
+        } catch (final ExecutionException caught) {
+            assertTrue(caught.getCause() instanceof BulkheadException);
+        }
+
+        exit.countDown();
+        assertEquals("blocking", first.get(10, TimeUnit.SECONDS));
+        assertEquals("queued", second.get(10, TimeUnit.SECONDS));
+        assertEquals(2, bulkhead.accepted());
+        assertEquals(1, bulkhead.rejected());
+    }
+
+    @Test
+    public final void asyncCallerRuns() throws Exception {
+        final int count = 100_000;
+        final Bulkhead bulkhead = Bulkhead.of(1).withMaxQueued(count);
+        final AtomicReference<Runnable> held = new AtomicReference<>();
+        // holds the first execution back, runs any other on the calling thread ...
+        final Executor callerRuns = task -> {
+            if (!held.compareAndSet(null, task)) {
+                task.run();
+            }
+        };
+        final Function<Integer, CompletableFuture<Integer>> identity = bulkhead.async(value -> value, callerRuns);
+        final List<CompletableFuture<Integer>> results = new ArrayList<>();
+        for (int index = 0; index < count; ++index) {
+            results.add(identity.apply(index));
+        }
+        assertEquals(count - 1, bulkhead.queued());
+
+        held.get().run();
+        for (int index = 0; index < count; ++index) {
+            assertEquals(Integer.valueOf(index), results.get(index).get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(0, bulkhead.active());
+        assertEquals(0, bulkhead.queued());
+        assertEquals(count, bulkhead.accepted());
+    }
+
+    @Test
+    public final void asyncFailing() throws Exception {
+        final IOException failure = new IOException();
+        final Bulkhead bulkhead = Bulkhead.of(1);
+        final CompletableFuture<Object> result = bulkhead.async(value -> {
+            throw failure;
+        }, executor).apply("any");
+        try {
+            final Object value = result.get(10, TimeUnit.SECONDS);
+            fail("expected to fail but was " + value);
+        } catch (final ExecutionException caught) {
+            assertSame(failure, caught.getCause());
+        }
+    }
+}
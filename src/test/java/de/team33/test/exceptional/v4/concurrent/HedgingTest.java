@@ -0,0 +1,140 @@
+package de.team33.test.exceptional.v4.concurrent;
+
+import de.team33.libs.exceptional.v4.concurrent.Hedging;
+import de.team33.libs.exceptional.v4.functional.XSupplier;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class HedgingTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Hedging hedging = Hedging.using(executor).withInitialDelay(10, TimeUnit.MILLISECONDS);
+    private final AtomicInteger attempts = new AtomicInteger(0);
+
+    @After
+    public final void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static void pause(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException caught) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public final void fastPrimary() throws IOException {
+        final Hedging patient = hedging.withInitialDelay(10, TimeUnit.SECONDS);
+        final XSupplier<String, IOException> supplier =
+                patient.supplier(() -> "attempt #" + attempts.incrementAndGet());
+        assertEquals("attempt #1", supplier.get());
+        assertEquals(1, patient.calls());
+        assertEquals(0, patient.hedged());
+        assertEquals(1, patient.estimator().count());
+    }
+
+    @Test
+    public final void slowPrimary() throws Exception {
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final XSupplier<String, IOException> supplier = hedging.supplier(() -> {
+            final int attempt = attempts.incrementAndGet();
+            if (1 == attempt) {
+                try {
+                    Thread.sleep(10_000);
+                } catch (final InterruptedException caught) {
+                    cancelled.countDown();
+                }
+            }
+            return "attempt #" + attempt;
+        });
+        assertEquals("attempt #2", supplier.get());
+        assertEquals(1, hedging.hedged());
+        // the cancelled primary counts as well, with a lower bound of its latency ...
+        assertEquals(2, hedging.estimator().count());
+        assertTrue(cancelled.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public final void failingPrimary() {
+        final IOException failure = new IOException();
+        final Hedging patient = hedging.withInitialDelay(10, TimeUnit.SECONDS);
+        final XSupplier<String, IOException> supplier = patient.supplier(() -> {
+            attempts.incrementAndGet();
+            throw failure;
+        });
+        try {
+            final String result = supplier.get();
+            fail("expected to fail but was " + result);
+        } catch (final IOException caught) {
+            assertSame(failure, caught);
+            assertEquals(1, attempts.get());
+            assertEquals(0, patient.hedged());
+        }
+    }
+
+    @Test
+    public final void slowFailingPrimary() throws IOException {
+        final XSupplier<String, IOException> supplier = hedging.supplier(() -> {
+            final int attempt = attempts.incrementAndGet();
+            if (1 == attempt) {
+                pause(30);
+                throw new IOException("attempt #" + attempt);
+            }
+            pause(60);
+            return "attempt #" + attempt;
+        });
+        assertEquals("attempt #2", supplier.get());
+    }
+
+    @Test
+    public final void allFailing() {
+        final XSupplier<String, IOException> supplier = hedging.supplier(() -> {
+            final int attempt = attempts.incrementAndGet();
+            pause(20);
+            throw new IOException("attempt #" + attempt);
+        });
+        try {
+            final String result = supplier.get();
+            fail("expected to fail but was " + result);
+        } catch (final IOException caught) {
+            assertTrue(caught.getMessage().startsWith("attempt #"));
+            assertEquals(2, attempts.get());
+            assertEquals(1, caught.getSuppressed().length);
+            assertTrue(caught.getSuppressed()[0].getMessage().startsWith("attempt #"));
+        }
+    }
+
+    @Test
+    public final void adaptiveThreshold() throws InterruptedException {
+        final XSupplier<Integer, InterruptedException> supplier = hedging.supplier(() -> {
+            Thread.sleep(1);
+            return attempts.incrementAndGet();
+        });
+        for (int index = 0; index < 64; ++index) {
+            supplier.get();
+        }
+        final long threshold = hedging.thresholdNanos();
+        assertTrue("threshold: " + threshold, TimeUnit.MILLISECONDS.toNanos(1) <= threshold);
+        assertTrue("threshold: " + threshold, threshold < TimeUnit.MILLISECONDS.toNanos(10) || 0 < hedging.hedged());
+        assertTrue(64 <= hedging.estimator().count());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void noAttempts() {
+        hedging.withMaxAttempts(0);
+    }
+}
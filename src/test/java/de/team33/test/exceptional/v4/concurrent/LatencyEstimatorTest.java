@@ -0,0 +1,58 @@
+package de.team33.test.exceptional.v4.concurrent;
+
+import de.team33.libs.exceptional.v4.concurrent.LatencyEstimator;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyEstimatorTest {
+
+    @Test
+    public final void empty() {
+        assertEquals(-1, LatencyEstimator.withDecay(100).percentile(0.95));
+    }
+
+    @Test
+    public final void small() {
+        final LatencyEstimator estimator = LatencyEstimator.withDecay(100);
+        estimator.record(-5);
+        estimator.record(3);
+        assertEquals(0, estimator.percentile(0.5));
+        assertEquals(3, estimator.percentile(1.0));
+    }
+
+    @Test
+    public final void percentiles() {
+        final LatencyEstimator estimator = LatencyEstimator.withDecay(Long.MAX_VALUE);
+        for (long value = 1; value <= 100_000; ++value) {
+            estimator.record(value * 1000);
+        }
+        assertEquals(100_000, estimator.count());
+        for (final double fraction : new double[]{0.5, 0.9, 0.95, 0.99, 1.0}) {
+            final double exact = fraction * 100_000 * 1000;
+            final long estimated = estimator.percentile(fraction);
+            assertTrue(fraction + ": " + estimated, exact <= estimated);
+            assertTrue(fraction + ": " + estimated, estimated < exact * 1.125);
+        }
+    }
+
+    @Test
+    public final void decay() {
+        final LatencyEstimator estimator = LatencyEstimator.withDecay(1000);
+        for (int index = 0; index < 1000; ++index) {
+            estimator.record(1_000_000);
+        }
+        assertEquals(500, estimator.count());
+        for (int index = 0; index < 999; ++index) {
+            estimator.record(1_000);
+        }
+        final long p50 = estimator.percentile(0.5);
+        assertTrue("p50: " + p50, p50 < 2_000);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void percentileZero() {
+        LatencyEstimator.withDecay(100).percentile(0.0);
+    }
+}
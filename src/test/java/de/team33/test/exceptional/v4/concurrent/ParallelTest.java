@@ -0,0 +1,120 @@
+package de.team33.test.exceptional.v4.concurrent;
+
+import de.team33.libs.exceptional.v4.ElementException;
+import de.team33.libs.exceptional.v4.concurrent.Failures;
+import de.team33.libs.exceptional.v4.concurrent.Parallel;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class ParallelTest {
+
+    private static final int SIZE = 100_000;
+
+    private final Set<Integer> accepted = ConcurrentHashMap.newKeySet();
+
+    private static Integer[] elements() {
+        return IntStream.range(0, SIZE).boxed().toArray(Integer[]::new);
+    }
+
+    private void accept(final Integer element) throws IOException {
+        if (0 == element % 1000) {
+            throw new IOException("failed: " + element);
+        }
+        accepted.add(element);
+    }
+
+    private void assertResult(final Failures failures) {
+        assertEquals(SIZE - SIZE / 1000, accepted.size());
+        assertEquals(SIZE / 1000, failures.size());
+        final List<Integer> indices = failures.list()
+                                              .stream()
+                                              .map(Failures.Failure::index)
+                                              .collect(Collectors.toList());
+        assertEquals(IntStream.range(0, SIZE / 1000).map(index -> 1000 * index).boxed().collect(Collectors.toList()),
+                     indices);
+        for (final Failures.Failure failure : failures.list()) {
+            assertEquals(IOException.class, failure.exception().getClass());
+            assertEquals("failed: " + failure.index(), failure.exception().getMessage());
+        }
+    }
+
+    @Test
+    public final void forEachArray() {
+        assertResult(Parallel.forEach(elements(), this::accept));
+    }
+
+    @Test
+    public final void forEachList() {
+        assertResult(Parallel.forEach(Arrays.asList(elements()), this::accept));
+    }
+
+    @Test
+    public final void forEachCollection() {
+        assertResult(Parallel.forEach(new LinkedHashSet<>(Arrays.asList(elements())), this::accept));
+    }
+
+    @Test
+    public final void forEachWithPool() {
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertResult(Parallel.forEach(elements(), this::accept, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public final void uncheckedIsReported() {
+        final IllegalStateException original = new IllegalStateException();
+        final Failures failures = Parallel.forEach(new Integer[]{1, 2, 3}, element -> {
+            if (2 == element) {
+                throw original;
+            }
+        });
+        assertEquals(1, failures.size());
+        assertEquals(1, failures.list().get(0).index());
+        assertSame(original, failures.list().get(0).exception());
+    }
+
+    @Test
+    public final void noFailures() {
+        final Failures failures = Parallel.forEach(new HashSet<>(Arrays.asList(1, 2, 3)), accepted::add);
+        assertTrue(failures.isEmpty());
+        assertEquals(3, accepted.size());
+        failures.throwIfAny();
+    }
+
+    @Test
+    public final void empty() {
+        assertTrue(Parallel.forEach(new Integer[0], this::accept).isEmpty());
+    }
+
+    @Test
+    public final void throwIfAny() {
+        final Failures failures = Parallel.forEach(elements(), this::accept);
+        try {
+            failures.throwIfAny();
+            fail("expected to fail but worked");
+        } catch (final ElementException caught) {
+            assertEquals(0, caught.index());
+            assertSame(failures.list().get(0).exception(), caught.getCause());
+            assertEquals(failures.size() - 1, caught.getSuppressed().length);
+            assertEquals(1000, ((ElementException) caught.getSuppressed()[0]).index());
+        }
+    }
+}
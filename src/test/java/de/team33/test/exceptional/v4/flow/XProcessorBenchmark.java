@@ -0,0 +1,129 @@
+package de.team33.test.exceptional.v4.flow;
+
+import de.team33.libs.exceptional.v4.flow.XProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+
+/**
+ * Compares the throughput of an {@link XProcessor} with a plain {@link SubmissionPublisher} pipeline applying an
+ * equivalent unchecked function.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class XProcessorBenchmark {
+
+    private static final int ITEMS = 100_000;
+
+    private static Integer checked(final Integer value) throws IOException {
+        if (0 > value) {
+            throw new IOException("negative: " + value);
+        }
+        return value + 1;
+    }
+
+    private static Integer unchecked(final Integer value) {
+        return value + 1;
+    }
+
+    private static long run(final Flow.Processor<Integer, Integer> processor) throws InterruptedException {
+        final Counting counting = new Counting();
+        try (final SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            processor.subscribe(counting);
+            for (int index = 0; index < ITEMS; ++index) {
+                publisher.submit(index);
+            }
+        }
+        counting.done.await();
+        return counting.count;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public long xProcessor() throws InterruptedException {
+        return run(XProcessor.mapping(XProcessorBenchmark::checked));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public long submissionPublisher() throws InterruptedException {
+        return run(new Transforming(XProcessorBenchmark::unchecked));
+    }
+
+    private static final class Counting implements Flow.Subscriber<Integer> {
+
+        private final CountDownLatch done = new CountDownLatch(1);
+        private long count = 0;
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(final Integer item) {
+            count += item;
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+
+    /**
+     * The typical processor based on {@link SubmissionPublisher}, as outlined in its API documentation.
+     */
+    private static final class Transforming extends SubmissionPublisher<Integer>
+            implements Flow.Processor<Integer, Integer> {
+
+        private final Function<Integer, Integer> function;
+        private Flow.Subscription subscription;
+
+        private Transforming(final Function<Integer, Integer> function) {
+            this.function = function;
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            (this.subscription = subscription).request(1);
+        }
+
+        @Override
+        public void onNext(final Integer item) {
+            subscription.request(1);
+            submit(function.apply(item));
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            closeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            close();
+        }
+    }
+}
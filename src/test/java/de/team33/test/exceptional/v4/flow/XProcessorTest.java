@@ -0,0 +1,255 @@
+package de.team33.test.exceptional.v4.flow;
+
+import de.team33.libs.exceptional.v4.flow.XProcessor;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class XProcessorTest {
+
+    private static final IOException FAILURE = new IOException("failed");
+
+    private static String toText(final Integer value) throws IOException {
+        if (0 > value) {
+            throw FAILURE;
+        }
+        return "#" + value;
+    }
+
+    private static boolean isEven(final Integer value) throws IOException {
+        return 0 == (toText(value).length() % 2);
+    }
+
+    @Test
+    public final void mapping() throws InterruptedException {
+        final XProcessor<Integer, String> processor = XProcessor.mapping(XProcessorTest::toText);
+        final Collecting<String> subscriber = new Collecting<>(Long.MAX_VALUE);
+        try (final SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>()) {
+            publisher.subscribe(processor);
+            processor.subscribe(subscriber);
+            IntStream.range(0, 1000).forEach(publisher::submit);
+        }
+        subscriber.await();
+
+        assertEquals(IntStream.range(0, 1000).mapToObj(i -> "#" + i).collect(Collectors.toList()),
+                     subscriber.items);
+        assertTrue(subscriber.completed);
+        assertNull(subscriber.failure);
+    }
+
+    @Test
+    public final void filtering() {
+        final XProcessor<Integer, Integer> processor = XProcessor.filtering(XProcessorTest::isEven);
+        final Collecting<Integer> subscriber = new Collecting<>(Long.MAX_VALUE);
+        final Range publisher = new Range(0, 20);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), subscriber.items);
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public final void failing() {
+        final XProcessor<Integer, String> processor = XProcessor.mapping(XProcessorTest::toText);
+        final Collecting<String> subscriber = new Collecting<>(Long.MAX_VALUE);
+        final Range publisher = new Range(-1, 10);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(0, subscriber.items.size());
+        assertSame(FAILURE, subscriber.failure);
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    public final void skipping() {
+        final XProcessor<Integer, String> processor =
+                XProcessor.mapping(XProcessorTest::toText, 16, IOException.class::isInstance);
+        final Collecting<String> subscriber = new Collecting<>(Long.MAX_VALUE);
+        final Range publisher = new Range(-5, 5);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(5, subscriber.items.size());
+        assertEquals(5, processor.skipped());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    public final void respectsDemand() {
+        final XProcessor<Integer, String> processor = XProcessor.mapping(XProcessorTest::toText);
+        final Collecting<String> subscriber = new Collecting<>(3);
+        final Range publisher = new Range(0, 1000);
+        processor.subscribe(subscriber);
+        publisher.subscribe(processor);
+
+        assertEquals(3, subscriber.items.size());
+        assertEquals(3, publisher.requested);
+        subscriber.subscription.request(2);
+        assertEquals(5, subscriber.items.size());
+        assertEquals(5, publisher.requested);
+    }
+
+    @Test
+    public final void batchesRequests() {
+        final XProcessor<Integer, String> processor = XProcessor.mapping(XProcessorTest::toText, 100, e -> false);
+        final Collecting<String> subscriber = new Collecting<>(Long.MAX_VALUE);
+        final Range publisher = new Range(0, 1000);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+
+        assertEquals(1000, subscriber.items.size());
+        assertTrue("upstream requests are expected to be batched but were " + publisher.requests,
+                   publisher.requests <= 1000 / 50 + 1);
+    }
+
+    @Test
+    public final void invalidRequest() {
+        final XProcessor<Integer, String> processor = XProcessor.mapping(XProcessorTest::toText);
+        final Collecting<String> subscriber = new Collecting<>(2);
+        final Range publisher = new Range(0, 1000);
+        publisher.subscribe(processor);
+        processor.subscribe(subscriber);
+        subscriber.subscription.request(0);
+
+        assertEquals(2, subscriber.items.size());
+        assertEquals(IllegalArgumentException.class, subscriber.failure.getClass());
+        assertTrue(publisher.cancelled);
+    }
+
+    @Test
+    public final void singleSubscriber() {
+        final XProcessor<Integer, String> processor = XProcessor.mapping(XProcessorTest::toText);
+        final Collecting<String> first = new Collecting<>(1);
+        final Collecting<String> second = new Collecting<>(1);
+        processor.subscribe(first);
+        processor.subscribe(second);
+
+        assertNull(first.failure);
+        assertEquals(IllegalStateException.class, second.failure.getClass());
+    }
+
+    @Test
+    public final void nullSignals() {
+        final XProcessor<Integer, String> processor = XProcessor.mapping(XProcessorTest::toText);
+        final List<Runnable> signals = Arrays.asList(() -> processor.subscribe(null),
+                                                     () -> processor.onSubscribe(null),
+                                                     () -> processor.onNext(null),
+                                                     () -> processor.onError(null));
+        for (final Runnable signal : signals) {
+            try {
+                signal.run();
+                fail("expected to fail but worked");
+            } catch (final NullPointerException ignored) {
+                // as expected
+            }
+        }
+    }
+
+    /**
+     * A synchronous publisher of a range of integers that emits items on request.
+     */
+    private static final class Range implements Flow.Publisher<Integer>, Flow.Subscription {
+
+        private final int end;
+        private int next;
+        private long requested = 0;
+        private long pending = 0;
+        private int requests = 0;
+        private boolean cancelled = false;
+        private boolean emitting = false;
+        private Flow.Subscriber<? super Integer> subscriber;
+
+        private Range(final int start, final int end) {
+            this.next = start;
+            this.end = end;
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super Integer> subscriber) {
+            this.subscriber = subscriber;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void request(final long n) {
+            requested += n;
+            pending += n;
+            requests += 1;
+            if (!emitting) {
+                emitting = true;
+                while (!cancelled && (0 < pending) && (next < end)) {
+                    pending -= 1;
+                    subscriber.onNext(next++);
+                }
+                if (!cancelled && (next == end)) {
+                    cancelled = true;
+                    subscriber.onComplete();
+                }
+                emitting = false;
+            }
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    private static final class Collecting<T> implements Flow.Subscriber<T> {
+
+        private final long initialRequest;
+        private final List<T> items = new ArrayList<>();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private volatile boolean completed = false;
+        private volatile Throwable failure = null;
+
+        private Collecting(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        private void await() throws InterruptedException {
+            assertTrue("expected to terminate", terminated.await(10, TimeUnit.SECONDS));
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(final T item) {
+            items.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            failure = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+}
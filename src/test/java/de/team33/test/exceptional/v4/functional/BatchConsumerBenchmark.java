@@ -0,0 +1,66 @@
+package de.team33.test.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.functional.BatchConsumer;
+import de.team33.libs.exceptional.v4.functional.Conversion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Compares a {@linkplain Conversion#consumer(XConsumer) converted consumer} applied per element with a
+ * {@link BatchConsumer} applied to the same array.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BatchConsumerBenchmark {
+
+    private Integer[] elements;
+    private long sum;
+
+    private final Consumer<Integer> perElement = Conversion.consumer(this::add);
+    private final BatchConsumer<Integer> batch = Conversion.batchConsumer(this::add, 256);
+
+    private void add(final Integer element) throws IOException {
+        if (null == element) {
+            throw new IOException("<element> must not be null");
+        }
+        sum += element;
+    }
+
+    @Setup
+    public void setup() {
+        elements = IntStream.range(0, 4096).boxed().toArray(Integer[]::new);
+    }
+
+    @Benchmark
+    public long perElement() {
+        sum = 0;
+        for (final Integer element : elements) {
+            perElement.accept(element);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long batch() {
+        sum = 0;
+        batch.accept(elements);
+        return sum;
+    }
+}
@@ -0,0 +1,188 @@
+package de.team33.test.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.Context;
+import de.team33.libs.exceptional.v4.ElementException;
+import de.team33.libs.exceptional.v4.Handling;
+import de.team33.libs.exceptional.v4.Unwrapping;
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.Wrapping;
+import de.team33.libs.exceptional.v4.functional.BatchConsumer;
+import de.team33.libs.exceptional.v4.functional.Conversion;
+import de.team33.libs.exceptional.v4.functional.Converter;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class BatchConsumerTest {
+
+    private static final Integer[] ELEMENTS = IntStream.range(0, 10).boxed().toArray(Integer[]::new);
+
+    private final List<Integer> accepted = new ArrayList<>();
+
+    private void accept(final Integer element) throws IOException {
+        if (0 > element) {
+            throw new IOException("negative: " + element);
+        }
+        accepted.add(element);
+    }
+
+    private static Integer[] withNegatives(final int... indices) {
+        final Integer[] result = ELEMENTS.clone();
+        for (final int index : indices) {
+            result[index] = -index;
+        }
+        return result;
+    }
+
+    private static List<Integer> expected(final int... skipped) {
+        final List<Integer> result = new ArrayList<>(Arrays.asList(ELEMENTS));
+        for (final int index : skipped) {
+            result.remove(Integer.valueOf(index));
+        }
+        return result;
+    }
+
+    @Test
+    public final void acceptArray() {
+        Conversion.batchConsumer(this::accept, 3).accept(ELEMENTS);
+        assertEquals(Arrays.asList(ELEMENTS), accepted);
+    }
+
+    @Test
+    public final void acceptList() {
+        Conversion.batchConsumer(this::accept, 3).accept(Arrays.asList(ELEMENTS));
+        assertEquals(Arrays.asList(ELEMENTS), accepted);
+    }
+
+    @Test
+    public final void acceptLinkedList() {
+        Conversion.batchConsumer(this::accept, 3).accept(new LinkedList<>(Arrays.asList(ELEMENTS)));
+        assertEquals(Arrays.asList(ELEMENTS), accepted);
+    }
+
+    @Test
+    public final void acceptFrom() {
+        Conversion.batchConsumer(this::accept, 4).accept(ELEMENTS, 5);
+        assertEquals(Arrays.asList(ELEMENTS).subList(5, 10), accepted);
+    }
+
+    @Test
+    public final void failing() {
+        try {
+            Conversion.batchConsumer(this::accept, 3).accept(withNegatives(4));
+            fail("expected to fail but worked");
+        } catch (final ElementException caught) {
+            assertEquals(4, caught.index());
+            assertEquals(WrappedException.class, caught.getCause().getClass());
+            assertEquals(IOException.class, caught.getCause().getCause().getClass());
+            assertEquals("element #4: wrapped: negative: -4", caught.getMessage());
+            assertEquals(expected(4, 5, 6, 7, 8, 9), accepted);
+        }
+    }
+
+    @Test
+    public final void failingWithConverterWrapping() {
+        final BatchConsumer<Integer> consumer = Converter.using(Wrapping.normal(IllegalStateException::new))
+                                                         .batchConsumer(this::accept, 3);
+        try {
+            consumer.accept(new LinkedList<>(Arrays.asList(withNegatives(7))));
+            fail("expected to fail but worked");
+        } catch (final ElementException caught) {
+            assertEquals(7, caught.index());
+            assertEquals(IllegalStateException.class, caught.getCause().getClass());
+            assertSame(caught.getCause(), Unwrapping.standard().unwrap(caught));
+        }
+    }
+
+    @Test
+    public final void failingWithContext() {
+        final BatchConsumer<Integer> consumer = Converter.using(WrappedException::new)
+                                                         .withContext((t, u) -> Context.of("element", t)
+                                                                                       .with("index", u))
+                                                         .batchConsumer(this::accept, 3);
+        for (final List<Integer> elements : Arrays.asList(Arrays.asList(withNegatives(7)),
+                                                          new LinkedList<>(Arrays.asList(withNegatives(7))))) {
+            try {
+                consumer.accept(elements);
+                fail("expected to fail but worked");
+            } catch (final ElementException caught) {
+                final Context context = Handling.of(caught).context();
+                assertEquals(-7, context.get("element").orElse(null));
+                assertEquals(7, context.get("index").orElse(null));
+            }
+        }
+    }
+
+    @Test
+    public final void resumeAfterFailure() {
+        final Integer[] elements = withNegatives(2);
+        final BatchConsumer<Integer> consumer = Conversion.batchConsumer(this::accept, 4);
+        try {
+            consumer.accept(elements);
+            fail("expected to fail but worked");
+        } catch (final ElementException caught) {
+            consumer.accept(elements, caught.index() + 1);
+        }
+        assertEquals(expected(2), accepted);
+    }
+
+    @Test
+    public final void resuming() {
+        final List<ElementException> failures = new ArrayList<>();
+        Conversion.batchConsumer(this::accept, 3)
+                  .resuming(failures::add)
+                  .accept(withNegatives(1, 3, 4, 9));
+        assertEquals(expected(1, 3, 4, 9), accepted);
+        assertEquals(Arrays.asList(1, 3, 4, 9), failures.stream()
+                                                        .map(ElementException::index)
+                                                        .collect(Collectors.toList()));
+    }
+
+    @Test
+    public final void resumingLinkedList() {
+        final List<ElementException> failures = new ArrayList<>();
+        Conversion.batchConsumer(this::accept, 2)
+                  .resuming(failures::add)
+                  .accept(new LinkedList<>(Arrays.asList(withNegatives(1, 5, 6))));
+        assertEquals(expected(1, 5, 6), accepted);
+        assertEquals(3, failures.size());
+    }
+
+    @Test
+    public final void uncheckedPassesThrough() {
+        final IllegalStateException original = new IllegalStateException();
+        try {
+            Conversion.<Integer>batchConsumer(element -> {
+                throw original;
+            }, 3).accept(ELEMENTS);
+            fail("expected to fail but worked");
+        } catch (final IllegalStateException caught) {
+            assertSame(original, caught);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void invalidChunkSize() {
+        Conversion.batchConsumer(this::accept, 0);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public final void resumingNull() {
+        Conversion.batchConsumer(this::accept, 3).resuming(null);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public final void invalidFrom() {
+        Conversion.batchConsumer(this::accept, 3).accept(ELEMENTS, 11);
+    }
+}
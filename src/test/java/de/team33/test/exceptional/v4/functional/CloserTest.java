@@ -0,0 +1,88 @@
+package de.team33.test.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.functional.Closer;
+import de.team33.libs.exceptional.v4.functional.XAutoCloseable;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class CloserTest {
+
+    private final List<Integer> closed = new ArrayList<>();
+
+    private XAutoCloseable<IOException> resource(final int id, final IOException failure) {
+        return () -> {
+            closed.add(id);
+            if (null != failure) {
+                throw failure;
+            }
+        };
+    }
+
+    @Test
+    public final void closeInReverseOrder() throws IOException {
+        try (final Closer<IOException> closer = Closer.create()) {
+            for (int id = 0; id < 10; ++id) {
+                closer.register(resource(id, null));
+            }
+            assertEquals(10, closer.size());
+        }
+        final List<Integer> expected = Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        Collections.reverse(expected);
+        assertEquals(expected, closed);
+    }
+
+    @Test
+    public final void firstFailureIsPrimary() {
+        final IOException first = new IOException("first");
+        final IOException second = new IOException("second");
+        try {
+            Closer.closeAll(resource(0, second), resource(1, null), resource(2, first));
+            fail("expected to fail");
+        } catch (final IOException caught) {
+            assertSame(first, caught);
+            assertArrayEquals(new Throwable[]{second}, caught.getSuppressed());
+            assertEquals(Arrays.asList(2, 1, 0), closed);
+        }
+    }
+
+    @Test
+    public final void uncheckedFailureIsPrimary() throws IOException {
+        final IOException checked = new IOException();
+        final IllegalStateException unchecked = new IllegalStateException();
+        final Closer<IOException> closer = Closer.create();
+        closer.register(resource(0, checked));
+        closer.register(() -> {
+            throw unchecked;
+        });
+        try {
+            closer.close();
+            fail("expected to fail");
+        } catch (final IllegalStateException caught) {
+            assertSame(unchecked, caught);
+            assertArrayEquals(new Throwable[]{checked}, caught.getSuppressed());
+        }
+        assertEquals(0, closer.size());
+        closer.close();
+        assertEquals(Collections.singletonList(0), closed);
+    }
+
+    @Test
+    public final void registerWithCloseMethod() throws IOException {
+        final StringBuilder log = new StringBuilder();
+        try (final Closer<IOException> closer = Closer.create()) {
+            final StringBuilder result = closer.register(log, builder -> builder.append("closed"));
+            assertSame(log, result);
+        }
+        assertEquals("closed", log.toString());
+    }
+}
@@ -0,0 +1,80 @@
+package de.team33.test.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.functional.Conversion;
+import de.team33.libs.exceptional.v4.functional.XBiFunction;
+import de.team33.libs.exceptional.v4.functional.XConsumer;
+import de.team33.libs.exceptional.v4.functional.XFunction;
+import de.team33.libs.exceptional.v4.functional.XPredicate;
+import de.team33.libs.exceptional.v4.functional.XSupplier;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class CompositionTest {
+
+    private static final XFunction<String, Integer, IOException> LENGTH = String::length;
+    private static final XFunction<Integer, Integer, IOException> TWICE = value -> 2 * value;
+    private static final XPredicate<String, IOException> EMPTY = String::isEmpty;
+    private static final XPredicate<String, IOException> BLANK = string -> string.trim().isEmpty();
+
+    private static <T, R> XFunction<T, R, IOException> failing(final IOException failure) {
+        return t -> {
+            throw failure;
+        };
+    }
+
+    @Test
+    public final void function() throws IOException {
+        assertEquals(Integer.valueOf(10), LENGTH.andThen(TWICE).apply("abcde"));
+        assertEquals(Integer.valueOf(10), TWICE.compose(LENGTH).apply("abcde"));
+    }
+
+    @Test
+    public final void biFunction() throws IOException {
+        final XBiFunction<String, String, String, IOException> concat = String::concat;
+        assertEquals(Integer.valueOf(6), concat.andThen(LENGTH).apply("abc", "def"));
+    }
+
+    @Test
+    public final void predicate() throws IOException {
+        assertTrue(EMPTY.or(BLANK).test("  "));
+        assertFalse(EMPTY.and(BLANK).test("  "));
+        assertTrue(EMPTY.negate().test("  "));
+    }
+
+    @Test
+    public final void consumer() throws IOException {
+        final List<String> result = new ArrayList<>();
+        final XConsumer<String, IOException> first = string -> result.add("1:" + string);
+        first.andThen(string -> result.add("2:" + string)).accept("x");
+        assertEquals(Arrays.asList("1:x", "2:x"), result);
+    }
+
+    @Test
+    public final void supplier() throws IOException {
+        final XSupplier<String, IOException> supplier = () -> "abcd";
+        assertEquals(Integer.valueOf(4), supplier.andThen(LENGTH).get());
+    }
+
+    @Test
+    public final void singleBoundary() {
+        final IOException failure = new IOException();
+        try {
+            final Integer result = Conversion.function(LENGTH.andThen(TWICE).andThen(CompositionTest.<Integer, Integer>failing(failure)))
+                                             .apply("abc");
+            fail("expected to fail but was " + result);
+        } catch (final WrappedException caught) {
+            assertSame(failure, caught.getCause());
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package de.team33.test.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.Wrapping;
+import de.team33.libs.exceptional.v4.functional.Conversion;
+import de.team33.libs.exceptional.v4.functional.Converter;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+import org.junit.runners.Parameterized.Parameters;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static de.team33.test.exceptional.v4.Allocations.assertBudget;
+
+/**
+ * Checks that the success path of each adapter shape does not allocate, once the JIT has warmed up.
+ */
+@RunWith(Parameterized.class)
+public class ConverterAllocationTest {
+
+    private static final long BUDGET = 0;
+    private static final Object ARG = new Object();
+    private static final Object RESULT = new Object();
+
+    private final Shapes shapes;
+
+    public ConverterAllocationTest(final String name, final Shapes shapes) {
+        this.shapes = shapes;
+    }
+
+    @Parameters(name = "{index}: {0}")
+    public static Iterable<Object[]> data() {
+        return Arrays.asList(new Object[][]{
+                {"Conversion", new Shapes(Conversion.runnable(ConverterAllocationTest::run),
+                                          Conversion.consumer(ConverterAllocationTest::accept),
+                                          Conversion.biConsumer(ConverterAllocationTest::accept),
+                                          Conversion.supplier(ConverterAllocationTest::get),
+                                          Conversion.predicate(ConverterAllocationTest::test),
+                                          Conversion.biPredicate(ConverterAllocationTest::test),
+                                          Conversion.function(ConverterAllocationTest::apply),
+                                          Conversion.biFunction(ConverterAllocationTest::apply))},
+                {"Converter(normal)", Shapes.of(Converter.using(Wrapping.normal(IllegalStateException::new)))},
+                {"Converter(trimmed)", Shapes.of(Converter.using(WrappedException::new).withStackDepth(3))}
+        });
+    }
+
+    private static void run() throws IOException {
+        check(ARG);
+    }
+
+    private static void accept(final Object t) throws IOException {
+        check(t);
+    }
+
+    private static void accept(final Object t, final Object u) throws IOException {
+        check(u);
+    }
+
+    private static Object get() throws IOException {
+        return check(RESULT);
+    }
+
+    private static boolean test(final Object t) throws IOException {
+        return ARG == check(t);
+    }
+
+    private static boolean test(final Object t, final Object u) throws IOException {
+        return ARG == check(u);
+    }
+
+    private static Object apply(final Object t) throws IOException {
+        return check(t);
+    }
+
+    private static Object apply(final Object t, final Object u) throws IOException {
+        return check(u);
+    }
+
+    private static Object check(final Object value) throws IOException {
+        if (null == value) {
+            throw new IOException("<value> must not be null");
+        }
+        return value;
+    }
+
+    @Test
+    public final void runnable() {
+        assertBudget("runnable", BUDGET, shapes.runnable);
+    }
+
+    @Test
+    public final void consumer() {
+        assertBudget("consumer", BUDGET, () -> shapes.consumer.accept(ARG));
+    }
+
+    @Test
+    public final void biConsumer() {
+        assertBudget("biConsumer", BUDGET, () -> shapes.biConsumer.accept(ARG, ARG));
+    }
+
+    @Test
+    public final void supplier() {
+        assertBudget("supplier", BUDGET, shapes.supplier::get);
+    }
+
+    @Test
+    public final void predicate() {
+        assertBudget("predicate", BUDGET, () -> shapes.predicate.test(ARG));
+    }
+
+    @Test
+    public final void biPredicate() {
+        assertBudget("biPredicate", BUDGET, () -> shapes.biPredicate.test(ARG, ARG));
+    }
+
+    @Test
+    public final void function() {
+        assertBudget("function", BUDGET, () -> shapes.function.apply(ARG));
+    }
+
+    @Test
+    public final void biFunction() {
+        assertBudget("biFunction", BUDGET, () -> shapes.biFunction.apply(ARG, ARG));
+    }
+
+    private static final class Shapes {
+
+        private final Runnable runnable;
+        private final Consumer<Object> consumer;
+        private final BiConsumer<Object, Object> biConsumer;
+        private final Supplier<Object> supplier;
+        private final Predicate<Object> predicate;
+        private final BiPredicate<Object, Object> biPredicate;
+        private final Function<Object, Object> function;
+        private final BiFunction<Object, Object, Object> biFunction;
+
+        private Shapes(final Runnable runnable,
+                       final Consumer<Object> consumer,
+                       final BiConsumer<Object, Object> biConsumer,
+                       final Supplier<Object> supplier,
+                       final Predicate<Object> predicate,
+                       final BiPredicate<Object, Object> biPredicate,
+                       final Function<Object, Object> function,
+                       final BiFunction<Object, Object, Object> biFunction) {
+            this.runnable = runnable;
+            this.consumer = consumer;
+            this.biConsumer = biConsumer;
+            this.supplier = supplier;
+            this.predicate = predicate;
+            this.biPredicate = biPredicate;
+            this.function = function;
+            this.biFunction = biFunction;
+        }
+
+        private static Shapes of(final Converter converter) {
+            return new Shapes(converter.runnable(ConverterAllocationTest::run),
+                              converter.consumer(ConverterAllocationTest::accept),
+                              converter.biConsumer(ConverterAllocationTest::accept),
+                              converter.supplier(ConverterAllocationTest::get),
+                              converter.predicate(ConverterAllocationTest::test),
+                              converter.biPredicate(ConverterAllocationTest::test),
+                              converter.function(ConverterAllocationTest::apply),
+                              converter.biFunction(ConverterAllocationTest::apply));
+        }
+    }
+}
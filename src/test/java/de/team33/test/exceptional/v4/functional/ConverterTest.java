@@ -1,5 +1,7 @@
 package de.team33.test.exceptional.v4.functional;
 
+import de.team33.libs.exceptional.v4.Context;
+import de.team33.libs.exceptional.v4.Contextual;
 import de.team33.libs.exceptional.v4.Wrapping;
 import de.team33.libs.exceptional.v4.functional.Converter;
 import de.team33.libs.exceptional.v4.WrappedException;
@@ -10,29 +12,40 @@ import org.junit.runners.Parameterized.Parameters;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 
 @RunWith(Parameterized.class)
 public class ConverterTest {
 
+    private static final int FULL = Integer.MAX_VALUE;
+
     private final Class<?> runtimeExceptionType;
     private final Converter wrapper;
+    private final int stackDepth;
 
-    public ConverterTest(final Class<?> runtimeExceptionType, final Converter wrapper) {
+    public ConverterTest(final Class<?> runtimeExceptionType, final Converter wrapper, final int stackDepth) {
         this.runtimeExceptionType = runtimeExceptionType;
         this.wrapper = wrapper;
+        this.stackDepth = stackDepth;
     }
 
-    @Parameters(name = "{index}: {0} + {1}")
+    @Parameters(name = "{index}: {0} + {1} + {2}")
     public static Iterable<Object[]> data() {
         return Arrays.asList(new Object[][]{
-                {WrappedException.class, Converter.using(WrappedException::new)},
-                {IllegalStateException.class, Converter.using(Wrapping.normal(IllegalStateException::new))},
-                {RuntimeException.class, Converter.using(Wrapping.varying(RuntimeException::new))}
+                {WrappedException.class, Converter.using(WrappedException::new), FULL},
+                {IllegalStateException.class, Converter.using(Wrapping.normal(IllegalStateException::new)), FULL},
+                {RuntimeException.class, Converter.using(Wrapping.varying(RuntimeException::new)), FULL},
+                {WrappedException.class, Converter.using(WrappedException::new).withStackDepth(3), 3},
+                {WrappedException.class, Converter.using(WrappedException::new).withStackDepth(0), 0},
+                {WrappedException.class, Converter.using(WrappedException::new).withStackDepth(3).withFullStack(), FULL}
         });
     }
 
@@ -143,4 +156,45 @@ public class ConverterTest {
             assertEquals("args: [a, b]", e.getCause().getMessage());
         }
     }
+
+    @Test
+    public final void stackTrace() {
+        try {
+            wrapper.function(t -> rise(IOException::new, t))
+                   .apply("another string");
+            fail("expected to fail");
+        } catch (final RuntimeException e) {
+            final StackTraceElement[] frames = e.getStackTrace();
+            if (FULL == stackDepth) {
+                assertTrue(frames[0].getClassName().startsWith("de.team33.libs."));
+            } else {
+                assertEquals(stackDepth, frames.length);
+                for (final StackTraceElement frame : frames) {
+                    assertFalse(frame.getClassName().startsWith("de.team33.libs."));
+                }
+                if (0 < stackDepth) {
+                    assertEquals("stackTrace", frames[0].getMethodName());
+                }
+            }
+        }
+    }
+
+    @Test
+    public final void context() {
+        try {
+            wrapper.withContext((t, u) -> Context.of("t", t).with("u", u))
+                   .biFunction((t, u) -> rise(IOException::new, t, u))
+                   .apply(278, "a string");
+            fail("expected to fail");
+        } catch (final RuntimeException e) {
+            assertEquals(runtimeExceptionType, e.getClass());
+            if (e instanceof Contextual) {
+                final Map<String, Object> expected = new LinkedHashMap<>();
+                expected.put("t", 278);
+                expected.put("u", "a string");
+                assertEquals(expected, ((Contextual) e).context().toMap());
+                assertTrue(e.getMessage().endsWith(" {t=278, u=a string}"));
+            }
+        }
+    }
 }
@@ -0,0 +1,147 @@
+package de.team33.test.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.Handling;
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.functional.Conversion;
+import de.team33.libs.exceptional.v4.functional.Converter;
+import de.team33.libs.exceptional.v4.functional.FaultInjection;
+import de.team33.libs.exceptional.v4.functional.Sneaky;
+import de.team33.libs.exceptional.v4.functional.XFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the strategies to pass checked exceptions through a {@link Function} at failure rates from 0 to 50
+ * percent, injected by a {@link FaultInjection}. Each operation applies the function to a batch of elements and
+ * counts the failures.
+ * <p>
+ * The injected exception is preallocated, so the results show the costs of the strategies rather than the costs of
+ * creating the original exceptions.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FailureRateBenchmark {
+
+    private static final int BATCH = 1024;
+    private static final IOException FAILURE = new IOException("injected");
+
+    @Param({"0.0", "0.01", "0.1", "0.25", "0.5"})
+    public double rate;
+
+    private XFunction<Integer, Integer, IOException> checked;
+    private Function<Integer, Integer> converted;
+    private Function<Integer, Integer> trimmed;
+    private Function<Integer, Integer> flooding;
+    private Function<Integer, Integer> sneaky;
+
+    @Setup
+    public void setup() {
+        checked = FaultInjection.of(() -> FAILURE)
+                                .withRate(rate, 278)
+                                .function(value -> value + 1);
+        converted = Conversion.function(checked);
+        trimmed = Converter.using(WrappedException::new).withStackDepth(0).function(checked);
+        flooding = Converter.using(WrappedException::new).withFloodLimit(100, 1, TimeUnit.SECONDS).function(checked);
+        sneaky = Converter.sneaky().function(checked);
+    }
+
+    @Benchmark
+    public long checked() {
+        long failures = 0;
+        for (int index = 0; index < BATCH; ++index) {
+            try {
+                checked.apply(index);
+            } catch (final IOException caught) {
+                failures += 1;
+            }
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public long conversion() {
+        long failures = 0;
+        for (int index = 0; index < BATCH; ++index) {
+            try {
+                converted.apply(index);
+            } catch (final WrappedException caught) {
+                failures += 1;
+            }
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public long conversionHandling() {
+        long failures = 0;
+        for (int index = 0; index < BATCH; ++index) {
+            try {
+                try {
+                    converted.apply(index);
+                } catch (final WrappedException caught) {
+                    throw Handling.of(caught).reThrowCauseIf(IOException.class).fallback();
+                }
+            } catch (final IOException caught) {
+                failures += 1;
+            }
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public long trimmed() {
+        long failures = 0;
+        for (int index = 0; index < BATCH; ++index) {
+            try {
+                trimmed.apply(index);
+            } catch (final WrappedException caught) {
+                failures += 1;
+            }
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public long flooding() {
+        long failures = 0;
+        for (int index = 0; index < BATCH; ++index) {
+            try {
+                flooding.apply(index);
+            } catch (final RuntimeException caught) {
+                failures += 1;
+            }
+        }
+        return failures;
+    }
+
+    @Benchmark
+    public long sneaky() {
+        long failures = 0;
+        for (int index = 0; index < BATCH; ++index) {
+            final Integer value = index;
+            try {
+                Sneaky.declare(IOException.class, () -> sneaky.apply(value));
+            } catch (final IOException caught) {
+                failures += 1;
+            }
+        }
+        return failures;
+    }
+}
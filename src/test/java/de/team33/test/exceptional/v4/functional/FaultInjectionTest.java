@@ -0,0 +1,96 @@
+package de.team33.test.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.functional.FaultInjection;
+import de.team33.libs.exceptional.v4.functional.XFunction;
+import de.team33.libs.exceptional.v4.functional.XSupplier;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FaultInjectionTest {
+
+    private static final IOException FAILURE = new IOException("injected");
+    private static final FaultInjection<IOException> FAULTS = FaultInjection.of(() -> FAILURE);
+
+    private static List<Long> failing(final XSupplier<?, IOException> supplier, final int calls) {
+        final List<Long> result = new ArrayList<>();
+        for (long call = 0; call < calls; ++call) {
+            try {
+                supplier.get();
+            } catch (final IOException caught) {
+                assertSame(FAILURE, caught);
+                result.add(call);
+            }
+        }
+        return result;
+    }
+
+    @Test
+    public final void none() {
+        final FaultInjection<IOException> faults = FAULTS.withRate(0.0, 278);
+        assertEquals(0, failing(faults.supplier(() -> "ok"), 1000).size());
+        assertEquals(1000, faults.calls());
+        assertEquals(0, faults.injected());
+    }
+
+    @Test
+    public final void schedule() {
+        final FaultInjection<IOException> faults = FAULTS.withSchedule(call -> 3 == call % 10);
+        assertEquals(Arrays.asList(3L, 13L, 23L), failing(faults.supplier(() -> "ok"), 30));
+        assertEquals(3, faults.injected());
+    }
+
+    @Test
+    public final void rate() {
+        final FaultInjection<IOException> faults = FAULTS.withRate(0.25, 278);
+        final int failed = failing(faults.supplier(() -> "ok"), 100_000).size();
+        assertTrue("failed: " + failed, (24_000 < failed) && (failed < 26_000));
+        assertEquals(failed, faults.injected());
+    }
+
+    @Test
+    public final void deterministic() {
+        final List<Long> first = failing(FAULTS.withRate(0.1, 278).supplier(() -> "ok"), 1000);
+        final List<Long> second = failing(FAULTS.withRate(0.1, 278).supplier(() -> "ok"), 1000);
+        final List<Long> other = failing(FAULTS.withRate(0.1, 279).supplier(() -> "ok"), 1000);
+        assertEquals(first, second);
+        assertTrue(!first.equals(other));
+    }
+
+    @Test
+    public final void function() throws IOException {
+        final XFunction<String, Integer, IOException> length =
+                FAULTS.withSchedule(call -> 1 == call).function(String::length);
+        assertEquals(Integer.valueOf(3), length.apply("abc"));
+        try {
+            final Integer result = length.apply("abc");
+            fail("expected to fail but was " + result);
+        } catch (final IOException caught) {
+            assertSame(FAILURE, caught);
+        }
+        assertEquals(Integer.valueOf(2), length.apply("ab"));
+    }
+
+    @Test
+    public final void latency() throws IOException {
+        final XSupplier<String, IOException> supplier = FAULTS.withLatency(20, TimeUnit.MILLISECONDS)
+                                                              .supplier(() -> "ok");
+        final long start = System.nanoTime();
+        assertEquals("ok", supplier.get());
+        assertTrue(TimeUnit.MILLISECONDS.toNanos(20) <= System.nanoTime() - start);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void invalidRate() {
+        FAULTS.withRate(1.5, 278);
+    }
+}
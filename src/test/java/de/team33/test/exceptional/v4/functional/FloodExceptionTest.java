@@ -0,0 +1,217 @@
+package de.team33.test.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.Context;
+import de.team33.libs.exceptional.v4.Unwrapping;
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.Wrapping;
+import de.team33.libs.exceptional.v4.functional.Converter;
+import de.team33.libs.exceptional.v4.functional.FloodException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class FloodExceptionTest {
+
+    private static final int LIMIT = 3;
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private final Converter converter = Converter.using(WrappedException::new)
+                                                 .withFloodLimit(LIMIT, 1, TimeUnit.SECONDS, clock::get);
+    private final Consumer<Exception> consumer = converter.consumer(FloodExceptionTest::rise);
+
+    private static void rise(final Exception cause) throws Exception {
+        throw cause;
+    }
+
+    private RuntimeException caught(final Exception cause) {
+        try {
+            consumer.accept(cause);
+            throw new AssertionError("expected to fail but worked");
+        } catch (final RuntimeException caught) {
+            return caught;
+        }
+    }
+
+    @Test
+    public final void belowLimit() {
+        for (int index = 0; index < LIMIT; ++index) {
+            final IOException cause = new IOException("#" + index);
+            final RuntimeException result = caught(cause);
+            assertEquals(WrappedException.class, result.getClass());
+            assertSame(cause, result.getCause());
+            assertFalse(FloodException.of(result).isPresent());
+        }
+    }
+
+    @Test
+    public final void aboveLimit() {
+        for (int index = 0; index < LIMIT; ++index) {
+            caught(new IOException("#" + index));
+        }
+        final IOException first = new IOException("first");
+        final RuntimeException shared = caught(first);
+        final IOException latest = new IOException("latest");
+        assertSame(shared, caught(new IOException("between")));
+        assertSame(shared, caught(latest));
+
+        assertEquals(WrappedException.class, shared.getClass());
+        assertSame(first, shared.getCause());
+        final FloodException flood = FloodException.of(shared).get();
+        assertSame(flood, shared.getSuppressed()[0]);
+        assertEquals(IOException.class, flood.causeType());
+        assertEquals(3, flood.count());
+        assertSame(first, flood.getCause());
+        assertSame(first, flood.firstCause());
+        assertSame(latest, flood.latestCause());
+        assertEquals("flood of java.io.IOException: 3 occurrence(s), latest: latest", flood.getMessage());
+    }
+
+    @Test
+    public final void sharedInstanceIsStackless() {
+        for (int index = 0; index <= LIMIT; ++index) {
+            caught(new IOException("#" + index));
+        }
+        final RuntimeException shared = caught(new IOException());
+        assertEquals(0, shared.getStackTrace().length);
+        assertEquals(1, shared.getSuppressed().length);
+
+        final FloodException flood = FloodException.of(shared).get();
+        flood.addSuppressed(new IllegalStateException());
+        flood.setStackTrace(new Throwable().getStackTrace());
+        assertEquals(0, flood.getStackTrace().length);
+        assertEquals(0, flood.getSuppressed().length);
+    }
+
+    @Test
+    public final void keepsConfiguredType() {
+        final Consumer<Exception> typed = Converter.using(Wrapping.byType(IllegalStateException.class))
+                                                   .withFloodLimit(0, 1, TimeUnit.SECONDS, clock::get)
+                                                   .consumer(FloodExceptionTest::rise);
+        final IOException first = new IOException("first");
+        try {
+            typed.accept(first);
+            fail("expected to fail but worked");
+        } catch (final IllegalStateException caught) {
+            assertSame(first, caught.getCause());
+            assertEquals(1, FloodException.of(caught).get().count());
+        }
+    }
+
+    @Test
+    public final void transparentAndWithoutContext() {
+        final Consumer<Exception> contextual = converter.withContext((t, u) -> Context.of("item", t))
+                                                        .consumer(FloodExceptionTest::rise);
+        for (int index = 0; index < LIMIT; ++index) {
+            try {
+                contextual.accept(new IOException("#" + index));
+                fail("expected to fail but worked");
+            } catch (final WrappedException caught) {
+                assertEquals(IOException.class, caught.getCause().getClass());
+            }
+        }
+        final IOException first = new IOException("first");
+        try {
+            contextual.accept(first);
+            fail("expected to fail but worked");
+        } catch (final WrappedException caught) {
+            assertTrue(FloodException.of(caught).isPresent());
+            assertSame(first, Unwrapping.standard().unwrap(caught));
+            assertTrue(caught.context().isEmpty());
+        }
+        try {
+            contextual.accept(new IOException("second"));
+            fail("expected to fail but worked");
+        } catch (final WrappedException caught) {
+            assertEquals(2, FloodException.of(caught).get().count());
+            assertTrue(caught.context().isEmpty());
+        }
+    }
+
+    @Test
+    public final void perCauseType() {
+        for (int index = 0; index <= LIMIT; ++index) {
+            caught(new IOException("#" + index));
+        }
+        assertTrue(FloodException.of(caught(new IOException())).isPresent());
+        assertFalse(FloodException.of(caught(new SQLException())).isPresent());
+    }
+
+    @Test
+    public final void floodContinuesAcrossIntervals() {
+        for (int index = 0; index <= LIMIT; ++index) {
+            caught(new IOException("#" + index));
+        }
+        final RuntimeException flood = caught(new IOException());
+
+        clock.addAndGet(1000);
+        for (int index = 0; index <= LIMIT; ++index) {
+            assertSame(flood, caught(new IOException("#" + index)));
+        }
+        assertEquals(2 + LIMIT + 1, FloodException.of(flood).get().count());
+    }
+
+    @Test
+    public final void floodEnds() {
+        for (int index = 0; index <= LIMIT; ++index) {
+            caught(new IOException("#" + index));
+        }
+        final RuntimeException flood = caught(new IOException());
+
+        clock.addAndGet(1000);
+        assertSame(flood, caught(new IOException()));
+        clock.addAndGet(1000);
+        for (int index = 0; index < LIMIT; ++index) {
+            assertFalse(FloodException.of(caught(new IOException("#" + index))).isPresent());
+        }
+        final RuntimeException next = caught(new IOException());
+        assertNotSame(flood, next);
+        assertEquals(1, FloodException.of(next).get().count());
+    }
+
+    @Test
+    public final void keepsStackDepth() {
+        final Consumer<Exception> trimmed = converter.withStackDepth(1)
+                                                     .consumer(FloodExceptionTest::rise);
+        try {
+            trimmed.accept(new IOException());
+            fail("expected to fail but worked");
+        } catch (final WrappedException caught) {
+            assertEquals(1, caught.getStackTrace().length);
+        }
+    }
+
+    @Test
+    public final void withoutFloodLimit() {
+        final Consumer<Exception> unlimited = converter.withoutFloodLimit()
+                                                       .consumer(FloodExceptionTest::rise);
+        for (int index = 0; index <= 2 * LIMIT; ++index) {
+            try {
+                unlimited.accept(new IOException());
+                fail("expected to fail but worked");
+            } catch (final WrappedException caught) {
+                assertEquals(IOException.class, caught.getCause().getClass());
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void negativeLimit() {
+        Converter.using(WrappedException::new).withFloodLimit(-1, 1, TimeUnit.SECONDS);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public final void tooShortInterval() {
+        Converter.using(WrappedException::new).withFloodLimit(1, 999, TimeUnit.MICROSECONDS);
+    }
+}
@@ -0,0 +1,117 @@
+package de.team33.test.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.ElementException;
+import de.team33.libs.exceptional.v4.functional.Converter;
+import de.team33.libs.exceptional.v4.functional.Sneaky;
+import de.team33.test.exceptional.v4.Allocations;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class SneakyTest {
+
+    private static final IOException FAILURE = new IOException("failure");
+
+    private static String failing(final String text) throws IOException {
+        if (text.isEmpty()) {
+            throw FAILURE;
+        }
+        return text.toUpperCase();
+    }
+
+    @Test
+    public final void sneakyFunction() throws IOException {
+        final Function<String, String> function = Converter.sneaky().function(SneakyTest::failing);
+        final List<String> result = Sneaky.declare(IOException.class, () -> Stream.of("a", "b")
+                                                                                  .map(function)
+                                                                                  .collect(Collectors.toList()));
+        assertEquals(Arrays.asList("A", "B"), result);
+    }
+
+    @Test
+    public final void sneakyFunctionFailing() {
+        final Function<String, String> function = Converter.sneaky().function(SneakyTest::failing);
+        try {
+            final List<String> result = Sneaky.declare(IOException.class, () -> Stream.of("a", "")
+                                                                                      .map(function)
+                                                                                      .collect(Collectors.toList()));
+            fail("expected to fail but was " + result);
+        } catch (final IOException caught) {
+            assertSame(FAILURE, caught);
+        }
+    }
+
+    @Test
+    public final void sneakyRunnableFailing() {
+        final Runnable runnable = Converter.sneaky().runnable(() -> failing(""));
+        try {
+            Sneaky.declare(IOException.class, runnable);
+            fail("expected to fail");
+        } catch (final IOException caught) {
+            assertSame(FAILURE, caught);
+        }
+    }
+
+    @Test
+    public final void sneakyIgnoresSettings() {
+        final Converter converter = Converter.sneaky()
+                                             .withStackDepth(1)
+                                             .withContext((t, u) -> null);
+        try {
+            Sneaky.declare(IOException.class, () -> converter.function(SneakyTest::failing).apply(""));
+            fail("expected to fail");
+        } catch (final IOException caught) {
+            assertSame(FAILURE, caught);
+        }
+    }
+
+    @Test
+    public final void sneakyBatchConsumer() {
+        try {
+            Converter.sneaky().<String>batchConsumer(SneakyTest::failing, 4).accept(new String[]{"a", "", "b"});
+            fail("expected to fail");
+        } catch (final ElementException caught) {
+            assertEquals(1, caught.index());
+            assertSame(FAILURE, caught.getCause());
+        }
+    }
+
+    @Test(expected = NullPointerException.class)
+    public final void usingNull() {
+        Converter.using(null);
+    }
+
+    @Test
+    public final void rethrow() {
+        try {
+            throw Sneaky.rethrow(FAILURE);
+        } catch (final RuntimeException caught) {
+            fail("expected to be passed through as is but was " + caught);
+        } catch (final Exception caught) {
+            assertSame(FAILURE, caught);
+        }
+    }
+
+    @Test
+    public final void failurePathAllocatesNothing() {
+        Allocations.assumeEscapeAnalysis();
+        final Function<String, String> function = Converter.sneaky().function(SneakyTest::failing);
+        Allocations.assertBudget("sneaky failure", 0, () -> {
+            try {
+                Sneaky.declare(IOException.class, () -> function.apply(""));
+                fail("expected to fail");
+            } catch (final IOException caught) {
+                assertSame(FAILURE, caught);
+            }
+        });
+    }
+}
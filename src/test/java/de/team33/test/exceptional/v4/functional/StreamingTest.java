@@ -0,0 +1,144 @@
+package de.team33.test.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.Handling;
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.functional.Sneaky;
+import de.team33.libs.exceptional.v4.functional.Streaming;
+import de.team33.libs.exceptional.v4.functional.XIterator;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class StreamingTest {
+
+    private final AtomicInteger closed = new AtomicInteger(0);
+
+    private void close() {
+        closed.incrementAndGet();
+    }
+
+    @Test
+    public final void apply() throws IOException {
+        final long result = Streaming.apply(new Counter(0, 10, null), this::close, Stream::count);
+        assertEquals(10, result);
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public final void applyFailing() {
+        final IOException failure = new IOException();
+        try {
+            final long result = Streaming.apply(new Counter(0, 10, failure), this::close, Stream::count);
+            fail("expected to fail but was " + result);
+        } catch (final IOException caught) {
+            assertSame(failure, caught);
+            assertEquals(1, closed.get());
+        }
+    }
+
+    @Test
+    public final void applyFailingOnClose() {
+        final IOException failure = new IOException();
+        try {
+            final long result = Streaming.apply(new Counter(0, 10, null), () -> {
+                throw failure;
+            }, Stream::count);
+            fail("expected to fail but was " + result);
+        } catch (final IOException caught) {
+            assertSame(failure, caught);
+        }
+    }
+
+    @Test
+    public final void applyForeignWrappedException() throws IOException {
+        final WrappedException foreign = new WrappedException(new IOException());
+        try {
+            Streaming.apply(new Counter(0, 10, null), this::close, stream -> {
+                throw foreign;
+            });
+            fail("expected to fail");
+        } catch (final WrappedException caught) {
+            assertSame(foreign, caught);
+        }
+    }
+
+    @Test
+    public final void stream() {
+        final IOException failure = new IOException();
+        try (final Stream<Integer> stream = Streaming.stream(new Counter(0, 10, failure), this::close)) {
+            fail("expected to fail but was " + stream.collect(Collectors.toList()));
+        } catch (final WrappedException caught) {
+            assertSame(failure, Handling.of(caught).mappedCause(cause -> cause));
+        }
+        assertEquals(1, closed.get());
+    }
+
+    @Test
+    public final void streamFailingAction() {
+        final IOException failure = new IOException();
+        try (final Stream<Integer> stream = Streaming.stream(new Counter(0, 10, null), this::close)) {
+            stream.forEach(value -> {
+                throw Sneaky.rethrow(failure);
+            });
+            fail("expected to fail");
+        } catch (final Exception caught) {
+            assertSame(failure, caught);
+        }
+    }
+
+    @Test
+    public final void parallel() throws IOException {
+        final long result = Streaming.apply(new Counter(0, 100_000, null), this::close,
+                                            stream -> stream.parallel()
+                                                            .mapToLong(Integer::longValue)
+                                                            .sum());
+        assertEquals(99_999L * 100_000L / 2, result);
+    }
+
+    @Test
+    public final void trySplit() {
+        final Spliterator<Integer> spliterator = Streaming.spliterator(new Counter(0, 5000, null));
+        final Spliterator<Integer> prefix = spliterator.trySplit();
+        assertNotNull(prefix);
+        assertEquals(1024, prefix.estimateSize());
+    }
+
+    private static final class Counter implements XIterator<Integer, IOException> {
+
+        private final int end;
+        private final IOException failure;
+        private int next;
+
+        private Counter(final int start, final int end, final IOException failure) {
+            this.next = start;
+            this.end = end;
+            this.failure = failure;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < end;
+        }
+
+        @Override
+        public Integer next() throws IOException {
+            if (next >= end) {
+                throw new NoSuchElementException();
+            }
+            if ((null != failure) && (next == end / 2)) {
+                throw failure;
+            }
+            return next++;
+        }
+    }
+}
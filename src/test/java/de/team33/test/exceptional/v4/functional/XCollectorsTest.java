@@ -0,0 +1,201 @@
+package de.team33.test.exceptional.v4.functional;
+
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.functional.XCollector;
+import de.team33.libs.exceptional.v4.functional.XCollectors;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+public class XCollectorsTest {
+
+    private static final int SIZE = 10_000;
+
+    private static Stream<Integer> numbers() {
+        return IntStream.range(0, SIZE).boxed();
+    }
+
+    private static int parsed(final String text) throws IOException {
+        try {
+            return Integer.parseInt(text);
+        } catch (final NumberFormatException caught) {
+            throw new IOException(caught.getMessage(), caught);
+        }
+    }
+
+    @Test
+    public final void of() throws IOException {
+        final XCollector<String, StringBuilder, String, IOException> joining =
+                XCollectors.of(StringBuilder::new, (builder, text) -> builder.append(parsed(text)),
+                               StringBuilder::append, StringBuilder::toString);
+        assertEquals("278", joining.collect(Stream.of("2", "7", "8")));
+    }
+
+    @Test
+    public final void ofParallel() throws IOException {
+        final XCollector<Integer, long[], long[], IOException> summing =
+                XCollectors.of(() -> new long[1], (sum, value) -> sum[0] += parsed(value.toString()), (left, right) -> {
+                    left[0] += right[0];
+                    return left;
+                });
+        final long expected = (long) SIZE * (SIZE - 1) / 2;
+        assertEquals(expected, summing.collect(numbers().parallel())[0]);
+    }
+
+    @Test
+    public final void failing() {
+        final XCollector<String, ?, int[], IOException> collector = XCollectors.toIntArray(XCollectorsTest::parsed);
+        try {
+            final int[] result = collector.collect(Stream.of("2", "7", "x"));
+            fail("expected to fail but was " + Arrays.toString(result));
+        } catch (final IOException caught) {
+            assertEquals("For input string: \"x\"", caught.getMessage());
+        }
+    }
+
+    @Test
+    public final void failingParallel() {
+        final XCollector<Integer, ?, int[], IOException> collector = XCollectors.toIntArray(value -> {
+            if (value % 1000 == 999) {
+                throw new IOException("#" + value);
+            }
+            return value;
+        });
+        try {
+            final int[] result = collector.collect(numbers().parallel());
+            fail("expected to fail but was int[" + result.length + "]");
+        } catch (final IOException caught) {
+            assertEquals(999, Integer.parseInt(caught.getMessage().substring(1)) % 1000);
+        }
+    }
+
+    @Test
+    public final void failingInCombiner() {
+        final IOException failure = new IOException();
+        final XCollector<Integer, int[], int[], IOException> collector =
+                XCollectors.of(() -> new int[1], (count, value) -> count[0] += 1, (left, right) -> {
+                    throw failure;
+                });
+        try {
+            final int[] result = collector.collect(numbers().parallel());
+            fail("expected to fail but was " + Arrays.toString(result));
+        } catch (final IOException caught) {
+            assertSame(failure, caught);
+        }
+    }
+
+    @Test
+    public final void collector() {
+        final IOException failure = new IOException();
+        final XCollector<Integer, ?, int[], IOException> failing = XCollectors.toIntArray(value -> {
+            throw failure;
+        });
+        try {
+            final int[] result = Stream.of(1, 2, 3).collect(failing.collector());
+            fail("expected to fail but was " + Arrays.toString(result));
+        } catch (final WrappedException caught) {
+            assertSame(failure, caught.getCause());
+        }
+    }
+
+    @Test
+    public final void nested() throws IOException {
+        final XCollector<String, ?, int[], IOException> inner = XCollectors.toIntArray(XCollectorsTest::parsed);
+        final XCollector<List<String>, ?, List<int[]>, IOException> outer =
+                XCollectors.of(java.util.ArrayList::new, (list, texts) -> list.add(inner.collect(texts.stream())),
+                               (left, right) -> {
+                                   left.addAll(right);
+                                   return left;
+                               });
+        final List<int[]> result = outer.collect(Stream.of(Arrays.asList("2", "7"), Arrays.asList("8")));
+        assertArrayEquals(new int[]{2, 7}, result.get(0));
+        assertArrayEquals(new int[]{8}, result.get(1));
+    }
+
+    @Test
+    public final void toList() throws IOException {
+        final List<Integer> result = XCollectors.<Integer, IOException>toList().collect(numbers().parallel());
+        assertEquals(numbers().collect(Collectors.toList()), result);
+    }
+
+    @Test
+    public final void toMap() throws IOException {
+        final Map<Integer, String> result = XCollectors.toMap(XCollectorsTest::parsed, text -> "#" + text)
+                                                       .collect(Stream.of("2", "7", "8"));
+        final Map<Integer, String> expected = new HashMap<>();
+        expected.put(2, "#2");
+        expected.put(7, "#7");
+        expected.put(8, "#8");
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public final void toMapDuplicate() throws IOException {
+        try {
+            final Map<Integer, String> result = XCollectors.toMap(XCollectorsTest::parsed, text -> text)
+                                                           .collect(Stream.of("2", "7", "02"));
+            fail("expected to fail but was " + result);
+        } catch (final IllegalStateException caught) {
+            assertEquals("Duplicate key 2 (attempted merging values 2 and 02)", caught.getMessage());
+        }
+    }
+
+    @Test
+    public final void toMapMerged() throws IOException {
+        final Map<Integer, Integer> result = XCollectors.toMap((Integer value) -> value % 10, value -> 1, Integer::sum)
+                                                        .collect(numbers().parallel());
+        final Map<Integer, Integer> expected = new HashMap<>();
+        for (int key = 0; key < 10; ++key) {
+            expected.put(key, SIZE / 10);
+        }
+        assertEquals(expected, result);
+    }
+
+    @Test
+    public final void groupingBy() throws IOException {
+        final Map<Integer, List<Integer>> result = XCollectors.groupingBy((Integer value) -> value % 7)
+                                                              .collect(numbers().parallel());
+        assertEquals(numbers().collect(Collectors.groupingBy(value -> value % 7)), result);
+    }
+
+    @Test
+    public final void groupingByDownstream() throws IOException {
+        final Map<Integer, int[]> result =
+                XCollectors.groupingBy((String text) -> text.length(), XCollectors.toIntArray(XCollectorsTest::parsed))
+                           .collect(Stream.of("2", "27", "8", "278"));
+        assertArrayEquals(new int[]{2, 8}, result.get(1));
+        assertArrayEquals(new int[]{27}, result.get(2));
+        assertArrayEquals(new int[]{278}, result.get(3));
+    }
+
+    @Test
+    public final void toIntArray() throws IOException {
+        final int[] result = XCollectors.toIntArray((Integer value) -> value).collect(numbers().parallel());
+        assertArrayEquals(IntStream.range(0, SIZE).toArray(), result);
+    }
+
+    @Test
+    public final void toLongArray() throws IOException {
+        final long[] result = XCollectors.toLongArray((Integer value) -> value * 3L).collect(numbers().parallel());
+        assertArrayEquals(IntStream.range(0, SIZE).mapToLong(value -> value * 3L).toArray(), result);
+    }
+
+    @Test
+    public final void toDoubleArray() throws IOException {
+        final double[] result = XCollectors.toDoubleArray((Integer value) -> value / 2.0)
+                                           .collect(numbers().parallel());
+        assertArrayEquals(IntStream.range(0, SIZE).mapToDouble(value -> value / 2.0).toArray(), result, 0.0);
+    }
+}
@@ -0,0 +1,93 @@
+package de.team33.test.exceptional.v4.jfr;
+
+import de.team33.libs.exceptional.v4.ExpectationException;
+import de.team33.libs.exceptional.v4.Handling;
+import de.team33.libs.exceptional.v4.WrappedException;
+import de.team33.libs.exceptional.v4.functional.Conversion;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class EventsTest {
+
+    private static final String WRAP = "de.team33.exceptional.Wrap";
+    private static final String HANDLING = "de.team33.exceptional.Handling";
+    private static final String EXPECTATION = "de.team33.exceptional.Expectation";
+
+    private static void failing() throws IOException {
+        throw new IOException("failing");
+    }
+
+    private static void process() throws IOException {
+        try {
+            Conversion.runnable(EventsTest::failing).run();
+            fail("expected to fail");
+        } catch (final WrappedException caught) {
+            throw Handling.of(caught)
+                          .reThrowCauseIf(IOException.class)
+                          .mappedCause(ExpectationException::new);
+        }
+    }
+
+    private static List<RecordedEvent> record(final String... names) throws IOException {
+        final Path path = Files.createTempFile("events", ".jfr");
+        try (final Recording recording = new Recording()) {
+            for (final String name : names) {
+                recording.enable(name);
+            }
+            recording.start();
+            try {
+                process();
+                fail("expected to fail");
+            } catch (final IOException expected) {
+                // as expected
+            }
+            new ExpectationException("expected");
+            recording.stop();
+            recording.dump(path);
+            return RecordingFile.readAllEvents(path)
+                                .stream()
+                                .filter(event -> event.getEventType().getName().startsWith("de.team33."))
+                                .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+
+    @Test
+    public final void disabledByDefault() throws IOException {
+        assertTrue(record().isEmpty());
+    }
+
+    @Test
+    public final void enabled() throws IOException {
+        final List<RecordedEvent> events = record(WRAP, HANDLING, EXPECTATION);
+        assertEquals(3, events.size());
+
+        final RecordedEvent wrap = events.get(0);
+        assertEquals(WRAP, wrap.getEventType().getName());
+        assertEquals(IOException.class.getName(), wrap.getClass("causeType").getName());
+        assertEquals(WrappedException.class.getName(), wrap.getClass("wrapperType").getName());
+
+        final RecordedEvent handling = events.get(1);
+        assertEquals(HANDLING, handling.getEventType().getName());
+        assertEquals("reThrowCauseIf", handling.getString("branch"));
+        assertEquals(IOException.class.getName(), handling.getClass("causeType").getName());
+
+        final RecordedEvent expectation = events.get(2);
+        assertEquals(EXPECTATION, expectation.getEventType().getName());
+        assertEquals("expected", expectation.getString("message"));
+        assertTrue(expectation.getDuration().toNanos() > 0);
+    }
+}